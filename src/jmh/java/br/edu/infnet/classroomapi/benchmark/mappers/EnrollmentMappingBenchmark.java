@@ -0,0 +1,69 @@
+package br.edu.infnet.classroomapi.benchmark.mappers;
+
+import br.edu.infnet.classroomapi.application.dto.response.EnrollmentResponseDTO;
+import br.edu.infnet.classroomapi.application.mappers.EnrollmentDTOMapper;
+import br.edu.infnet.classroomapi.domain.entities.Enrollment;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.mappers.EnrollmentEntityMapper;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnrollmentMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private AnnotationConfigApplicationContext context;
+    private EnrollmentEntityMapper entityMapper;
+    private EnrollmentDTOMapper dtoMapper;
+    private EnrollmentJpaRepository enrollmentCounts;
+    private List<EnrollmentEntity> entities;
+    private List<Enrollment> enrollments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MapperFixtures.mapperContext();
+        entityMapper = context.getBean(EnrollmentEntityMapper.class);
+        dtoMapper = context.getBean(EnrollmentDTOMapper.class);
+        enrollmentCounts = MapperFixtures.enrollmentCounts();
+        entities = MapperFixtures.enrollments(size);
+        enrollments = entityMapper.toDomainList(entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Enrollment> entityToDomainList() {
+        return entityMapper.toDomainList(entities);
+    }
+
+    @Benchmark
+    public List<EnrollmentResponseDTO> domainToResponseDTOList() {
+        return dtoMapper.toResponseDTOList(enrollments, enrollmentCounts);
+    }
+}
@@ -0,0 +1,120 @@
+package br.edu.infnet.classroomapi.benchmark.mappers;
+
+import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.AddressEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.ProfessorEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class MapperFixtures {
+
+    private static final int SUBJECTS = 20;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private MapperFixtures() {
+    }
+
+    static AnnotationConfigApplicationContext mapperContext() {
+        return new AnnotationConfigApplicationContext(
+                "br.edu.infnet.classroomapi.application.mappers",
+                "br.edu.infnet.classroomapi.infrastructure.persistence.mappers");
+    }
+
+    static EnrollmentJpaRepository enrollmentCounts() {
+        return (EnrollmentJpaRepository) Proxy.newProxyInstance(
+                EnrollmentJpaRepository.class.getClassLoader(),
+                new Class<?>[]{EnrollmentJpaRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "countBySubjectId" -> 42L;
+                    case "countGroupedBySubjectIds" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static List<StudentEntity> students(int size) {
+        List<StudentEntity> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(student(i));
+        }
+        return students;
+    }
+
+    static List<EnrollmentEntity> enrollments(int size) {
+        List<SubjectEntity> subjects = new ArrayList<>(SUBJECTS);
+        for (int i = 0; i < SUBJECTS; i++) {
+            subjects.add(subject(i, professor(i)));
+        }
+
+        List<EnrollmentEntity> enrollments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EnrollmentEntity enrollment = new EnrollmentEntity();
+            enrollment.setId((long) i + 1);
+            enrollment.setStudent(student(i));
+            enrollment.setSubject(subjects.get(i % SUBJECTS));
+            enrollment.setStatus(EnrollmentStatus.ACTIVE);
+            enrollment.setGrade(i % 2 == 0 ? new BigDecimal("8.50") : null);
+            enrollment.setEnrollmentDate(NOW);
+            enrollment.setCreatedAt(NOW);
+            enrollment.setUpdatedAt(NOW);
+            enrollments.add(enrollment);
+        }
+        return enrollments;
+    }
+
+    private static StudentEntity student(int index) {
+        AddressEntity address = new AddressEntity();
+        address.setStreet("Rua das Flores");
+        address.setNumber(String.valueOf(index));
+        address.setNeighborhood("Centro");
+        address.setCity("São Paulo");
+        address.setState("SP");
+        address.setZipCode("01234-567");
+        address.setCountry("Brasil");
+
+        StudentEntity student = new StudentEntity();
+        student.setId((long) index + 1);
+        student.setName("Student " + index);
+        student.setCpf(String.format("%011d", index));
+        student.setEmail("student" + index + "@email.com");
+        student.setPhone("(11) 99999-9999");
+        student.setAddress(address);
+        student.setCreatedAt(NOW);
+        student.setUpdatedAt(NOW);
+        return student;
+    }
+
+    private static ProfessorEntity professor(int index) {
+        ProfessorEntity professor = new ProfessorEntity();
+        professor.setId((long) index + 1);
+        professor.setName("Professor " + index);
+        professor.setEmail("professor" + index + "@email.com");
+        professor.setPassword("password");
+        professor.setRole(UserRole.PROFESSOR);
+        professor.setCreatedAt(NOW);
+        professor.setUpdatedAt(NOW);
+        return professor;
+    }
+
+    private static SubjectEntity subject(int index, ProfessorEntity professor) {
+        SubjectEntity subject = new SubjectEntity();
+        subject.setId((long) index + 1);
+        subject.setName("Subject " + index);
+        subject.setCode("SUB" + index);
+        subject.setDescription("Description " + index);
+        subject.setWorkload(60);
+        subject.setProfessor(professor);
+        subject.setCreatedAt(NOW);
+        subject.setUpdatedAt(NOW);
+        return subject;
+    }
+}
@@ -0,0 +1,56 @@
+package br.edu.infnet.classroomapi.benchmark.mappers;
+
+import br.edu.infnet.classroomapi.application.dto.response.StudentSummaryDTO;
+import br.edu.infnet.classroomapi.application.mappers.StudentDTOMapper;
+import br.edu.infnet.classroomapi.domain.entities.Student;
+import br.edu.infnet.classroomapi.infrastructure.persistence.mappers.StudentEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private AnnotationConfigApplicationContext context;
+    private StudentDTOMapper dtoMapper;
+    private List<Student> students;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MapperFixtures.mapperContext();
+        dtoMapper = context.getBean(StudentDTOMapper.class);
+        students = context.getBean(StudentEntityMapper.class).toDomainList(MapperFixtures.students(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentSummaryDTO> domainToSummaryDTOList() {
+        return dtoMapper.toSummaryDTOList(students);
+    }
+}
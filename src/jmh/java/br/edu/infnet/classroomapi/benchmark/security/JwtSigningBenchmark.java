@@ -0,0 +1,72 @@
+package br.edu.infnet.classroomapi.benchmark.security;
+
+import br.edu.infnet.classroomapi.domain.entities.Professor;
+import br.edu.infnet.classroomapi.infrastructure.security.config.JwtConfig;
+import br.edu.infnet.classroomapi.infrastructure.security.config.JwtProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.config.TokenRevocationProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtKeyRing;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtSigningAlgorithm;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
+import br.edu.infnet.classroomapi.infrastructure.security.services.JwtTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256", "ES256"})
+    private JwtSigningAlgorithm algorithm;
+
+    private JwtTokenService tokenService;
+    private JwtDecoder decoder;
+    private Professor professor;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.getCache().setEnabled(false);
+
+        JwtKeyRing keyRing = jwtConfig.jwtKeyRing(properties);
+        TokenRevocationService revocationService = new TokenRevocationService(
+                new TokenRevocationProperties(), Clock.systemUTC(), new SimpleMeterRegistry());
+        tokenService = new JwtTokenService(jwtConfig.jwtEncoder(jwtConfig.jwkSource(keyRing)), properties);
+        decoder = jwtConfig.jwtDecoder(keyRing, properties, revocationService, new SimpleMeterRegistry());
+
+        professor = new Professor("Maria Souza", "maria.souza@email.com", "encoded");
+        professor.setId(7L);
+        token = tokenService.generateToken(professor);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(professor);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+}
@@ -0,0 +1,62 @@
+package br.edu.infnet.classroomapi.benchmark.security;
+
+import br.edu.infnet.classroomapi.infrastructure.security.config.TokenRevocationProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevocationCheckBenchmark {
+
+    private TokenRevocationService revocationService;
+    private String activeTokenId;
+    private String revokedTokenId;
+    private Long professorId;
+    private Instant issuedAt;
+
+    @Setup
+    public void setUp() {
+        revocationService = new TokenRevocationService(new TokenRevocationProperties(), Clock.systemUTC(), new SimpleMeterRegistry());
+        Instant expiresAt = Instant.now().plus(8, ChronoUnit.HOURS);
+        for (int i = 0; i < 10_000; i++) {
+            revocationService.revokeToken(UUID.randomUUID().toString(), expiresAt);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        revocationService.revokeToken(revokedTokenId, expiresAt);
+        revocationService.revokeAllForProfessor(999L);
+
+        activeTokenId = UUID.randomUUID().toString();
+        professorId = 7L;
+        issuedAt = Instant.now();
+    }
+
+    @Benchmark
+    public boolean activeToken() {
+        return revocationService.isRevoked(activeTokenId, professorId, issuedAt);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return revocationService.isRevoked(revokedTokenId, professorId, issuedAt);
+    }
+}
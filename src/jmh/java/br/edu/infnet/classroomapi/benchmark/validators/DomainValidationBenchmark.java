@@ -0,0 +1,72 @@
+package br.edu.infnet.classroomapi.benchmark.validators;
+
+import br.edu.infnet.classroomapi.domain.validators.DomainValidator;
+import br.edu.infnet.classroomapi.domain.validators.DomainViolations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainValidationBenchmark {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    private String name = "João Silva";
+    private String cpf = "52998224725";
+    private String email = "joao.silva@email.com";
+
+    @Benchmark
+    public boolean regexStudentFields() {
+        if (name == null || name.trim().isEmpty()) {
+            return false;
+        }
+        if (cpf == null || cpf.trim().isEmpty()) {
+            return false;
+        }
+        if (email == null || email.trim().isEmpty()) {
+            return false;
+        }
+        return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    }
+
+    @Benchmark
+    public boolean scannerStudentFields() {
+        return !DomainValidator.isBlank(name)
+                && !DomainValidator.isBlank(cpf)
+                && !DomainValidator.isBlank(email)
+                && DomainValidator.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean precompiledPatternEmail() {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean scannerCpfWithCheckDigits() {
+        return DomainValidator.isValidCpf(cpf, true);
+    }
+
+    @Benchmark
+    public boolean accumulatedStudentFields() {
+        return new DomainViolations()
+                .notBlank(name, "Name cannot be null or empty")
+                .notBlank(cpf, "CPF cannot be null or empty")
+                .email(email, "Invalid email format")
+                .isEmpty();
+    }
+}
@@ -0,0 +1,15 @@
+#!/usr/bin/env sh
+# Roda o teste de carga com threads de plataforma e depois com threads virtuais, guardando a saída
+# de cada execução em src/loadtest/results. Parâmetros extras do harness podem ser passados como argumentos.
+set -eu
+
+cd "$(dirname "$0")/../.."
+RESULTS=src/loadtest/results
+STAMP=$(date +%Y-%m-%d)
+ARGS="--loadtest.concurrency=64 --loadtest.duration=30s $*"
+
+for VIRTUAL in false true; do
+  ./mvnw -B -q -Ploadtest test-compile exec:exec \
+    -Dloadtest.args="$ARGS --spring.threads.virtual.enabled=$VIRTUAL" \
+    | tee "$RESULTS/threading-$STAMP-virtual-$VIRTUAL.txt"
+done
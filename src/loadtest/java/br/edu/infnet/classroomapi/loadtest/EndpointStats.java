@@ -0,0 +1,70 @@
+package br.edu.infnet.classroomapi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long nanos, int status) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        if (status < 200 || status >= 300) {
+            errors.increment();
+            outcomes.computeIfAbsent(String.valueOf(status), key -> new LongAdder()).increment();
+        }
+    }
+
+    public void recordFailure(long nanos, Throwable failure) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        errors.increment();
+        outcomes.computeIfAbsent(failure.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    public void reset() {
+        latencies.reset();
+        errors.reset();
+        outcomes.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return latencies.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    public Map<String, Long> getErrorBreakdown() {
+        Map<String, Long> breakdown = new TreeMap<>();
+        outcomes.forEach((key, count) -> breakdown.put(key, count.sum()));
+        return breakdown;
+    }
+}
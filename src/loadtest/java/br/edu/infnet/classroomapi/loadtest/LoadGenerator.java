@@ -0,0 +1,174 @@
+package br.edu.infnet.classroomapi.loadtest;
+
+import br.edu.infnet.classroomapi.loadtest.WorkloadSeeder.ProfessorSession;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoadGenerator {
+
+    public static final String LOGIN = "login";
+    public static final String MY_ENROLLMENTS = "my-enrollments";
+    public static final String ASSIGN_GRADE = "assign-grade";
+    public static final String STUDENT_SEARCH = "student-search";
+    public static final String SUBJECT_LIST = "subject-list";
+    public static final String REACTIVATE = "reactivate";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LoadTestProperties properties;
+    private final List<ProfessorSession> sessions;
+    private final HttpClient client;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final String[] operations;
+    private final int[] cumulativeWeights;
+
+    private volatile boolean running;
+
+    public LoadGenerator(URI baseUri, LoadTestProperties properties, List<ProfessorSession> sessions) {
+        this.baseUri = baseUri;
+        this.properties = properties;
+        this.sessions = sessions;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Map<String, Integer> mix = properties.getMix();
+        operations = new String[mix.size()];
+        cumulativeWeights = new int[mix.size()];
+        int total = 0;
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            if (!List.of(LOGIN, MY_ENROLLMENTS, ASSIGN_GRADE, STUDENT_SEARCH, SUBJECT_LIST).contains(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown operation in loadtest.mix: " + entry.getKey());
+            }
+            total += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index++] = total;
+            stats.put(entry.getKey(), new EndpointStats(entry.getKey()));
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("loadtest.mix must have at least one positive weight");
+        }
+        stats.put(REACTIVATE, new EndpointStats(REACTIVATE));
+    }
+
+    public LoadReport run() throws InterruptedException {
+        running = true;
+        ExecutorService workers = Executors.newFixedThreadPool(properties.getConcurrency());
+        List<Runnable> users = new ArrayList<>();
+        for (int i = 0; i < properties.getConcurrency(); i++) {
+            users.add(this::virtualUser);
+        }
+        users.forEach(workers::execute);
+
+        Thread.sleep(properties.getWarmup().toMillis());
+        stats.values().forEach(EndpointStats::reset);
+        long start = System.nanoTime();
+        Thread.sleep(properties.getDuration().toMillis());
+        long elapsed = System.nanoTime() - start;
+
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        return new LoadReport(List.copyOf(stats.values()), elapsed, properties.getConcurrency());
+    }
+
+    private void virtualUser() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            ProfessorSession session = sessions.get(random.nextInt(sessions.size()));
+            String operation = pickOperation(random);
+            switch (operation) {
+                case LOGIN -> send(LOGIN, post("/api/v1/auth/login", null,
+                        "{\"email\":\"" + session.email() + "\",\"password\":\"" + WorkloadSeeder.PASSWORD + "\"}"));
+                case MY_ENROLLMENTS -> send(MY_ENROLLMENTS, get("/api/v1/enrollments/my-subjects", session));
+                case STUDENT_SEARCH -> send(STUDENT_SEARCH, get("/api/v1/students/search?name="
+                        + URLEncoder.encode("Student " + random.nextInt(100), StandardCharsets.UTF_8), session));
+                case SUBJECT_LIST -> send(SUBJECT_LIST, get("/api/v1/subjects", session));
+                case ASSIGN_GRADE -> assignGrade(session, random);
+                default -> throw new IllegalStateException(operation);
+            }
+        }
+    }
+
+    private void assignGrade(ProfessorSession session, ThreadLocalRandom random) {
+        Long enrollmentId = session.gradableEnrollments().poll();
+        if (enrollmentId == null) {
+            send(MY_ENROLLMENTS, get("/api/v1/enrollments/my-subjects", session));
+            return;
+        }
+        String grade = String.valueOf(random.nextInt(0, 101) / 10.0);
+        boolean graded = send(ASSIGN_GRADE, post("/api/v1/enrollments/" + enrollmentId + "/grade", session,
+                "{\"grade\":" + grade + "}"));
+        if (graded) {
+            send(REACTIVATE, HttpRequest.newBuilder(baseUri.resolve("/api/v1/enrollments/" + enrollmentId + "/reactivate"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + session.accessToken())
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build());
+        }
+        session.gradableEnrollments().offer(enrollmentId);
+    }
+
+    private String pickOperation(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private boolean send(String operation, HttpRequest request) {
+        EndpointStats endpoint = stats.get(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            endpoint.record(System.nanoTime() - start, response.statusCode());
+            return response.statusCode() / 100 == 2;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return false;
+        } catch (Exception ex) {
+            endpoint.recordFailure(System.nanoTime() - start, ex);
+            return false;
+        }
+    }
+
+    private HttpRequest get(String path, ProfessorSession session) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + session.accessToken())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, ProfessorSession session, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,44 @@
+package br.edu.infnet.classroomapi.loadtest;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public record LoadReport(List<EndpointStats> endpoints, long elapsedNanos, int concurrency) {
+
+    private static final String ROW = "%-16s %10s %8s %10s %9s %9s %9s %9s %9s%n";
+
+    public void print(PrintStream out) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf(Locale.ROOT, "%nLoad test: %d concurrent users, %.1f s measured%n%n", concurrency, seconds);
+        out.printf(Locale.ROOT, ROW, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (EndpointStats endpoint : endpoints) {
+            if (endpoint.getRequests() == 0) {
+                continue;
+            }
+            totalRequests += endpoint.getRequests();
+            totalErrors += endpoint.getErrors();
+            out.printf(Locale.ROOT, ROW, endpoint.getName(), endpoint.getRequests(), endpoint.getErrors(),
+                    format(endpoint.getRequests() / seconds),
+                    format(endpoint.percentileMillis(50)), format(endpoint.percentileMillis(90)),
+                    format(endpoint.percentileMillis(99)), format(endpoint.percentileMillis(99.9)),
+                    format(endpoint.maxMillis()));
+        }
+        out.printf(Locale.ROOT, ROW, "total", totalRequests, totalErrors, format(totalRequests / seconds), "", "", "", "", "");
+
+        for (EndpointStats endpoint : endpoints) {
+            if (!endpoint.getErrorBreakdown().isEmpty()) {
+                out.printf(Locale.ROOT, "%nErrors for %s: %s", endpoint.getName(), endpoint.getErrorBreakdown());
+            }
+        }
+        out.println();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
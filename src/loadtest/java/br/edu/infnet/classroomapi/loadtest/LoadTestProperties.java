@@ -0,0 +1,20 @@
+package br.edu.infnet.classroomapi.loadtest;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class LoadTestProperties {
+
+    private int professors = 20;
+    private int subjectsPerProfessor = 5;
+    private int students = 2000;
+    private int enrollmentsPerSubject = 40;
+    private int concurrency = 32;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private Map<String, Integer> mix = new LinkedHashMap<>();
+}
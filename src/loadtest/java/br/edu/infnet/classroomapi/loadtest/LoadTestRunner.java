@@ -0,0 +1,37 @@
+package br.edu.infnet.classroomapi.loadtest;
+
+import br.edu.infnet.classroomapi.ClassroomApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.List;
+
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ClassroomApiApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            LoadTestProperties properties = Binder.get(context.getEnvironment())
+                    .bindOrCreate("loadtest", LoadTestProperties.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            List<WorkloadSeeder.ProfessorSession> sessions = new WorkloadSeeder(context, properties).seed();
+            System.out.printf("Seeded %d professors, %d subjects, %d students, %d enrollments. Running on port %d.%n",
+                    properties.getProfessors(), properties.getProfessors() * properties.getSubjectsPerProfessor(),
+                    properties.getStudents(),
+                    properties.getProfessors() * properties.getSubjectsPerProfessor() * properties.getEnrollmentsPerSubject(),
+                    port);
+
+            LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port), properties, sessions);
+            generator.run().print(System.out);
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.edu.infnet.classroomapi.loadtest;
+
+import br.edu.infnet.classroomapi.domain.entities.Professor;
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.ProfessorEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.StudentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.services.JwtTokenService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class WorkloadSeeder {
+
+    static final String PASSWORD = "loadtest123";
+
+    private final ApplicationContext context;
+    private final LoadTestProperties properties;
+
+    public WorkloadSeeder(ApplicationContext context, LoadTestProperties properties) {
+        this.context = context;
+        this.properties = properties;
+    }
+
+    public List<ProfessorSession> seed() {
+        if (properties.getEnrollmentsPerSubject() > properties.getStudents()) {
+            throw new IllegalArgumentException("enrollments-per-subject cannot exceed the number of students");
+        }
+
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<ProfessorEntity> professors = new ArrayList<>();
+        for (int i = 0; i < properties.getProfessors(); i++) {
+            ProfessorEntity professor = new ProfessorEntity();
+            professor.setName("Load Professor " + i);
+            professor.setEmail("load.professor" + i + "@classroom.test");
+            professor.setPassword(encodedPassword);
+            professor.setRole(UserRole.PROFESSOR);
+            professors.add(professor);
+        }
+        professors = context.getBean(ProfessorJpaRepository.class).saveAll(professors);
+
+        List<StudentEntity> students = new ArrayList<>();
+        for (int i = 0; i < properties.getStudents(); i++) {
+            StudentEntity student = new StudentEntity();
+            student.setName("Load Student " + i);
+            student.setCpf(String.format("%011d", i));
+            student.setEmail("load.student" + i + "@classroom.test");
+            students.add(student);
+        }
+        students = context.getBean(StudentJpaRepository.class).saveAll(students);
+
+        List<SubjectEntity> subjects = new ArrayList<>();
+        for (ProfessorEntity professor : professors) {
+            for (int i = 0; i < properties.getSubjectsPerProfessor(); i++) {
+                SubjectEntity subject = new SubjectEntity();
+                subject.setName("Load Subject " + professor.getId() + "-" + i);
+                subject.setCode("LOAD" + professor.getId() + "-" + i);
+                subject.setWorkload(60);
+                subject.setProfessor(professor);
+                subjects.add(subject);
+            }
+        }
+        subjects = context.getBean(SubjectJpaRepository.class).saveAll(subjects);
+
+        List<EnrollmentEntity> enrollments = new ArrayList<>();
+        for (int s = 0; s < subjects.size(); s++) {
+            for (int i = 0; i < properties.getEnrollmentsPerSubject(); i++) {
+                EnrollmentEntity enrollment = new EnrollmentEntity();
+                enrollment.setSubject(subjects.get(s));
+                enrollment.setStudent(students.get((s * properties.getEnrollmentsPerSubject() + i) % students.size()));
+                enrollments.add(enrollment);
+            }
+        }
+        enrollments = context.getBean(EnrollmentJpaRepository.class).saveAll(enrollments);
+
+        JwtTokenService tokenService = context.getBean(JwtTokenService.class);
+        List<ProfessorSession> sessions = new ArrayList<>();
+        for (ProfessorEntity entity : professors) {
+            Professor professor = new Professor(entity.getName(), entity.getEmail(), entity.getPassword());
+            professor.setId(entity.getId());
+
+            Queue<Long> gradable = new ConcurrentLinkedQueue<>();
+            enrollments.stream()
+                    .filter(enrollment -> enrollment.getSubject().getProfessor().getId().equals(entity.getId()))
+                    .forEach(enrollment -> gradable.add(enrollment.getId()));
+
+            sessions.add(new ProfessorSession(entity.getId(), entity.getEmail(), tokenService.generateToken(professor), gradable));
+        }
+        return sessions;
+    }
+
+    public record ProfessorSession(Long id, String email, String accessToken, Queue<Long> gradableEnrollments) {
+    }
+}
@@ -0,0 +1,10 @@
+package br.edu.infnet.classroomapi.application.changes;
+
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+
+/**
+ * Version of a polled collection: the scope it is listed for and the version the database
+ * reports across every row the collection embeds.
+ */
+public record ChangeVersion(String scope, ResourceVersion version) {
+}
@@ -0,0 +1,32 @@
+package br.edu.infnet.classroomapi.application.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationRequestDTO {
+
+    private String id;
+
+    @NotBlank(message = "Method is required")
+    @Pattern(regexp = "(?i)GET|POST|PUT|DELETE", message = "Method must be GET, POST, PUT or DELETE")
+    private String method;
+
+    @NotBlank(message = "Path is required")
+    @Pattern(regexp = "/.*", message = "Path must start with /")
+    private String path;
+
+    private Map<String, String> headers;
+
+    private JsonNode body;
+}
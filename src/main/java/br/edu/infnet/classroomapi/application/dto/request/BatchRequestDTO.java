@@ -0,0 +1,18 @@
+package br.edu.infnet.classroomapi.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+
+    @NotEmpty(message = "At least one request is required")
+    private List<@Valid BatchOperationRequestDTO> requests;
+}
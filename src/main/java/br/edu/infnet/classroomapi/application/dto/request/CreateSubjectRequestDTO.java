@@ -25,4 +25,11 @@ public class CreateSubjectRequestDTO {
 
     @Positive(message = "Workload must be positive")
     private Integer workload;
+
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity;
+
+    public CreateSubjectRequestDTO(String name, String code, String description, Integer workload) {
+        this(name, code, description, workload, null);
+    }
 }
\ No newline at end of file
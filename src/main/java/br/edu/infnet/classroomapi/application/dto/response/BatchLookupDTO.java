@@ -0,0 +1,18 @@
+package br.edu.infnet.classroomapi.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLookupDTO<T> {
+
+    private List<T> items;
+    private List<Long> missingIds;
+}
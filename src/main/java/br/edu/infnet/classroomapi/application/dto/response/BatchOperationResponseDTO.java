@@ -0,0 +1,21 @@
+package br.edu.infnet.classroomapi.application.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationResponseDTO {
+
+    private String id;
+    private int status;
+    private Map<String, String> headers;
+    private JsonNode body;
+}
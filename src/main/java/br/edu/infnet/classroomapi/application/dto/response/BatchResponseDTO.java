@@ -0,0 +1,17 @@
+package br.edu.infnet.classroomapi.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+
+    private List<BatchOperationResponseDTO> responses;
+}
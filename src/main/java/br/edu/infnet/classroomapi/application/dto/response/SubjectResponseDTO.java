@@ -18,6 +18,8 @@ public class SubjectResponseDTO {
     private String code;
     private String description;
     private Integer workload;
+    private Integer capacity;
+    private Integer seatsTaken;
     private ProfessorResponseDTO professor;
     private Long enrolledStudentsCount;
     private LocalDateTime createdAt;
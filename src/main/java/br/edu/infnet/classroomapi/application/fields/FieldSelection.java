@@ -0,0 +1,59 @@
+package br.edu.infnet.classroomapi.application.fields;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(Collections.emptySet());
+
+    private final Set<String> paths;
+
+    private FieldSelection(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> paths = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return paths.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(paths));
+    }
+
+    public boolean isAll() {
+        return paths.isEmpty();
+    }
+
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    public boolean includes(String path) {
+        if (isAll()) {
+            return true;
+        }
+        for (String selected : paths) {
+            if (selected.equals(path) || path.startsWith(selected + ".") || selected.startsWith(path + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", paths);
+    }
+}
@@ -0,0 +1,22 @@
+package br.edu.infnet.classroomapi.application.fields;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class FieldSelectionHolder {
+
+    private static final ThreadLocal<FieldSelection> CURRENT = new ThreadLocal<>();
+
+    public static void set(FieldSelection selection) {
+        CURRENT.set(selection);
+    }
+
+    public static FieldSelection current() {
+        FieldSelection selection = CURRENT.get();
+        return selection != null ? selection : FieldSelection.all();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,60 @@
+package br.edu.infnet.classroomapi.application.mappers;
+
+import br.edu.infnet.classroomapi.application.fields.FieldSelectionHolder;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectEnrollmentCount;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class EnrollmentCountContext {
+
+    private final EnrollmentJpaRepository enrollmentRepository;
+    private final boolean enabled;
+    private final Map<Long, Long> counts = new HashMap<>();
+
+    public EnrollmentCountContext(EnrollmentJpaRepository enrollmentRepository) {
+        this(enrollmentRepository, true);
+    }
+
+    public EnrollmentCountContext(EnrollmentJpaRepository enrollmentRepository, boolean enabled) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.enabled = enabled;
+    }
+
+    public static EnrollmentCountContext forField(EnrollmentJpaRepository enrollmentRepository, String countPath) {
+        return new EnrollmentCountContext(enrollmentRepository, FieldSelectionHolder.current().includes(countPath));
+    }
+
+    public void prefetch(Collection<Long> subjectIds) {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> missing = new LinkedHashSet<>();
+        subjectIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !counts.containsKey(id))
+                .forEach(missing::add);
+
+        if (missing.size() > 1) {
+            for (SubjectEnrollmentCount count : enrollmentRepository.countGroupedBySubjectIds(missing)) {
+                counts.put(count.getSubjectId(), count.getEnrolledCount());
+            }
+        }
+    }
+
+    public Long countFor(Long subjectId) {
+        if (!enabled) {
+            return null;
+        }
+        if (subjectId == null) {
+            return 0L;
+        }
+        return counts.computeIfAbsent(subjectId, enrollmentRepository::countBySubjectId);
+    }
+}
@@ -1,20 +1,110 @@
 package br.edu.infnet.classroomapi.application.mappers;
 
 import br.edu.infnet.classroomapi.application.dto.response.EnrollmentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.NormalizedEnrollmentDTO;
+import br.edu.infnet.classroomapi.application.dto.response.ProfessorResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.StudentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.SubjectResponseDTO;
 import br.edu.infnet.classroomapi.domain.entities.Enrollment;
+import br.edu.infnet.classroomapi.domain.entities.Subject;
+import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
 import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Mapper(componentModel = "spring", uses = {StudentDTOMapper.class, SubjectDTOMapper.class})
 public interface EnrollmentDTOMapper {
 
     @Mapping(target = "approved", source = "approved")
     @Mapping(target = "subject", source = "subject")
-    EnrollmentResponseDTO toResponseDTO(Enrollment enrollment, @Context EnrollmentJpaRepository enrollmentRepository);
+    EnrollmentResponseDTO toResponseDTO(Enrollment enrollment, @Context EnrollmentCountContext enrollmentCounts);
 
-    List<EnrollmentResponseDTO> toResponseDTOList(List<Enrollment> enrollments, @Context EnrollmentJpaRepository enrollmentRepository);
-}
\ No newline at end of file
+    default EnrollmentResponseDTO toResponseDTO(Enrollment enrollment, EnrollmentJpaRepository enrollmentRepository) {
+        return toResponseDTO(enrollment, EnrollmentCountContext.forField(enrollmentRepository, "subject.enrolledStudentsCount"));
+    }
+
+    List<EnrollmentResponseDTO> toResponseDTOList(List<Enrollment> enrollments, @Context EnrollmentCountContext enrollmentCounts);
+
+    default List<EnrollmentResponseDTO> toResponseDTOList(List<Enrollment> enrollments, EnrollmentJpaRepository enrollmentRepository) {
+        EnrollmentCountContext enrollmentCounts = EnrollmentCountContext.forField(enrollmentRepository, "subject.enrolledStudentsCount");
+        if (enrollments != null) {
+            enrollmentCounts.prefetch(enrollments.stream()
+                    .map(Enrollment::getSubject)
+                    .filter(Objects::nonNull)
+                    .map(Subject::getId)
+                    .toList());
+        }
+        return toResponseDTOList(enrollments, enrollmentCounts);
+    }
+
+    @Mapping(target = "studentId", source = "student.id")
+    @Mapping(target = "subjectId", source = "subject.id")
+    @Mapping(target = "approved", source = "approved")
+    NormalizedEnrollmentDTO toNormalizedDTO(Enrollment enrollment);
+
+    List<NormalizedEnrollmentDTO> toNormalizedDTOList(List<Enrollment> enrollments);
+
+    default List<EnrollmentResponseDTO> fromFieldRows(List<Map<String, Object>> rows) {
+        return rows.stream().map(this::fromFieldRow).toList();
+    }
+
+    default EnrollmentResponseDTO fromFieldRow(Map<String, Object> row) {
+        EnrollmentResponseDTO dto = new EnrollmentResponseDTO();
+        dto.setId((Long) row.get("id"));
+        dto.setStatus((EnrollmentStatus) row.get("status"));
+        dto.setGrade((BigDecimal) row.get("grade"));
+        dto.setApproved((Boolean) row.get("approved"));
+        dto.setEnrollmentDate((LocalDateTime) row.get("enrollmentDate"));
+        dto.setCompletionDate((LocalDateTime) row.get("completionDate"));
+        dto.setCreatedAt((LocalDateTime) row.get("createdAt"));
+        dto.setUpdatedAt((LocalDateTime) row.get("updatedAt"));
+
+        if (hasPrefix(row, "student.")) {
+            StudentResponseDTO student = new StudentResponseDTO();
+            student.setId((Long) row.get("student.id"));
+            student.setName((String) row.get("student.name"));
+            student.setCpf((String) row.get("student.cpf"));
+            student.setEmail((String) row.get("student.email"));
+            student.setPhone((String) row.get("student.phone"));
+            student.setCreatedAt((LocalDateTime) row.get("student.createdAt"));
+            student.setUpdatedAt((LocalDateTime) row.get("student.updatedAt"));
+            dto.setStudent(student);
+        }
+
+        if (hasPrefix(row, "subject.")) {
+            SubjectResponseDTO subject = new SubjectResponseDTO();
+            subject.setId((Long) row.get("subject.id"));
+            subject.setName((String) row.get("subject.name"));
+            subject.setCode((String) row.get("subject.code"));
+            subject.setDescription((String) row.get("subject.description"));
+            subject.setWorkload((Integer) row.get("subject.workload"));
+            subject.setCapacity((Integer) row.get("subject.capacity"));
+            subject.setCreatedAt((LocalDateTime) row.get("subject.createdAt"));
+            subject.setUpdatedAt((LocalDateTime) row.get("subject.updatedAt"));
+            if (hasPrefix(row, "subject.professor.")) {
+                ProfessorResponseDTO professor = new ProfessorResponseDTO();
+                professor.setId((Long) row.get("subject.professor.id"));
+                professor.setName((String) row.get("subject.professor.name"));
+                professor.setEmail((String) row.get("subject.professor.email"));
+                professor.setRole((UserRole) row.get("subject.professor.role"));
+                professor.setCreatedAt((LocalDateTime) row.get("subject.professor.createdAt"));
+                professor.setUpdatedAt((LocalDateTime) row.get("subject.professor.updatedAt"));
+                subject.setProfessor(professor);
+            }
+            dto.setSubject(subject);
+        }
+        return dto;
+    }
+
+    private static boolean hasPrefix(Map<String, Object> row, String prefix) {
+        return row.keySet().stream().anyMatch(key -> key.startsWith(prefix));
+    }
+}
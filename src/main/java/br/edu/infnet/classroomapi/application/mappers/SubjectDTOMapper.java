@@ -15,14 +15,19 @@ import java.util.List;
 public interface SubjectDTOMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "seatsTaken", ignore = true)
     @Mapping(target = "professor", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "enrollments", ignore = true)
     Subject toDomain(CreateSubjectRequestDTO dto);
 
-    @Mapping(target = "enrolledStudentsCount", expression = "java(getEnrolledStudentsCount(subject, enrollmentRepository))")
-    SubjectResponseDTO toResponseDTO(Subject subject, @Context EnrollmentJpaRepository enrollmentRepository);
+    @Mapping(target = "enrolledStudentsCount", expression = "java(enrollmentCounts.countFor(subject.getId()))")
+    SubjectResponseDTO toResponseDTO(Subject subject, @Context EnrollmentCountContext enrollmentCounts);
+
+    default SubjectResponseDTO toResponseDTO(Subject subject, EnrollmentJpaRepository enrollmentRepository) {
+        return toResponseDTO(subject, EnrollmentCountContext.forField(enrollmentRepository, "enrolledStudentsCount"));
+    }
 
     default Long getEnrolledStudentsCount(Subject subject, EnrollmentJpaRepository enrollmentRepository) {
         if (subject.getId() != null) {
@@ -33,7 +38,15 @@ public interface SubjectDTOMapper {
 
     SubjectSummaryDTO toSummaryDTO(Subject subject);
 
-    List<SubjectResponseDTO> toResponseDTOList(List<Subject> subjects, @Context EnrollmentJpaRepository enrollmentRepository);
+    List<SubjectResponseDTO> toResponseDTOList(List<Subject> subjects, @Context EnrollmentCountContext enrollmentCounts);
+
+    default List<SubjectResponseDTO> toResponseDTOList(List<Subject> subjects, EnrollmentJpaRepository enrollmentRepository) {
+        EnrollmentCountContext enrollmentCounts = EnrollmentCountContext.forField(enrollmentRepository, "enrolledStudentsCount");
+        if (subjects != null) {
+            enrollmentCounts.prefetch(subjects.stream().map(Subject::getId).toList());
+        }
+        return toResponseDTOList(subjects, enrollmentCounts);
+    }
 
     List<SubjectSummaryDTO> toSummaryDTOList(List<Subject> subjects);
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package br.edu.infnet.classroomapi.application.services;
+
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Lookup by a list of ids: found items come back in request order without repeats,
+ * and ids that do not exist are listed in {@code missingIds}.
+ */
+@UtilityClass
+class BatchLookup {
+
+    static final int MAX_IDS = 1000;
+
+    static <D, T> BatchLookupDTO<T> lookup(
+            Collection<Long> ids,
+            Function<Collection<Long>, List<D>> loader,
+            Function<D, Long> idOf,
+            Function<List<D>, List<T>> mapper) {
+        List<Long> requestedIds = requestedIds(ids);
+
+        Map<Long, D> found = new HashMap<>();
+        for (D item : loader.apply(requestedIds)) {
+            found.put(idOf.apply(item), item);
+        }
+
+        List<D> ordered = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            D item = found.get(id);
+            if (item != null) {
+                ordered.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return BatchLookupDTO.<T>builder()
+                .items(mapper.apply(ordered))
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private static List<Long> requestedIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Ids must not be null");
+        }
+
+        List<Long> requestedIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (requestedIds.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        return requestedIds;
+    }
+}
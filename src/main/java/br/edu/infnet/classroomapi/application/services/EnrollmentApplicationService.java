@@ -1,36 +1,61 @@
 package br.edu.infnet.classroomapi.application.services;
 
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
 import br.edu.infnet.classroomapi.application.dto.request.AssignGradeRequestDTO;
 import br.edu.infnet.classroomapi.application.dto.request.CreateEnrollmentRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
 import br.edu.infnet.classroomapi.application.dto.response.EnrollmentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.IncludedResourcesDTO;
+import br.edu.infnet.classroomapi.application.dto.response.NormalizedEnrollmentListDTO;
+import br.edu.infnet.classroomapi.application.fields.FieldSelection;
+import br.edu.infnet.classroomapi.application.fields.FieldSelectionHolder;
 import br.edu.infnet.classroomapi.application.mappers.EnrollmentDTOMapper;
+import br.edu.infnet.classroomapi.application.mappers.StudentDTOMapper;
+import br.edu.infnet.classroomapi.application.mappers.SubjectDTOMapper;
 import br.edu.infnet.classroomapi.domain.entities.Enrollment;
 import br.edu.infnet.classroomapi.domain.entities.Student;
 import br.edu.infnet.classroomapi.domain.entities.Subject;
 import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.repositories.EnrollmentFilter;
 import br.edu.infnet.classroomapi.domain.repositories.EnrollmentRepository;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
 import br.edu.infnet.classroomapi.domain.repositories.StudentRepository;
 import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
 import br.edu.infnet.classroomapi.domain.services.EnrollmentDomainService;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SeatReservations;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SingleFlight;
 import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.services.OwnershipService;
 import br.edu.infnet.classroomapi.infrastructure.security.services.SecurityContextService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class EnrollmentApplicationService {
 
+    private static final String SUBJECT_ENROLLMENTS_FLIGHT = "subject-enrollments";
+
     private final EnrollmentRepository enrollmentRepository;
     private final StudentRepository studentRepository;
     private final SubjectRepository subjectRepository;
     private final EnrollmentDTOMapper enrollmentMapper;
+    private final StudentDTOMapper studentMapper;
+    private final SubjectDTOMapper subjectMapper;
     private final EnrollmentJpaRepository enrollmentJpaRepository;
     private final SecurityContextService securityContextService;
+    private final OwnershipService ownershipService;
+    private final SingleFlight singleFlight;
+    private final SeatReservations seatReservations;
 
     public EnrollmentResponseDTO createEnrollment(CreateEnrollmentRequestDTO request) {
         Student student = studentRepository.findById(request.getStudentId())
@@ -40,7 +65,7 @@ public class EnrollmentApplicationService {
                 .orElseThrow(() -> new RuntimeException("Subject not found"));
 
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!subject.getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsSubject(currentProfessorId, subject.getId())) {
             throw new RuntimeException("You can only enroll students in your own subjects");
         }
 
@@ -49,7 +74,7 @@ public class EnrollmentApplicationService {
         }
 
         Enrollment enrollment = EnrollmentDomainService.createEnrollment(student, subject);
-        Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        Enrollment savedEnrollment = seatReservations.reserve(subject, () -> enrollmentRepository.save(enrollment));
 
         return enrollmentMapper.toResponseDTO(savedEnrollment, enrollmentJpaRepository);
     }
@@ -59,7 +84,7 @@ public class EnrollmentApplicationService {
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
 
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!enrollment.getSubject().getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsSubject(currentProfessorId, enrollment.getSubject().getId())) {
             throw new RuntimeException("You can only assign grades to your own subjects");
         }
 
@@ -69,7 +94,7 @@ public class EnrollmentApplicationService {
         return enrollmentMapper.toResponseDTO(savedEnrollment, enrollmentJpaRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EnrollmentResponseDTO findById(Long id) {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
@@ -77,51 +102,106 @@ public class EnrollmentApplicationService {
         return enrollmentMapper.toResponseDTO(enrollment, enrollmentJpaRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return enrollmentRepository.findVersionById(id);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<EnrollmentResponseDTO> findAll() {
-        List<Enrollment> enrollments = enrollmentRepository.findAll();
-        return enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository);
+        return findEnrollments(EnrollmentFilter.all(), enrollmentRepository::findAll);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchLookupDTO<EnrollmentResponseDTO> findByIds(List<Long> ids) {
+        return BatchLookup.lookup(ids, enrollmentRepository::findAllByIds, Enrollment::getId,
+                enrollments -> enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<EnrollmentResponseDTO> findByStudentId(Long studentId) {
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-        return enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository);
+        return findEnrollments(EnrollmentFilter.byStudentId(studentId),
+                () -> enrollmentRepository.findByStudentId(studentId));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<EnrollmentResponseDTO> findBySubjectId(Long subjectId) {
-        List<Enrollment> enrollments = enrollmentRepository.findBySubjectId(subjectId);
-        return enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository);
+        return singleFlight.read(SUBJECT_ENROLLMENTS_FLIGHT, subjectId + "|" + FieldSelectionHolder.current(),
+                () -> findEnrollments(EnrollmentFilter.bySubjectId(subjectId),
+                        () -> enrollmentRepository.findBySubjectId(subjectId)));
     }
 
-    @Transactional(readOnly = true)
-    public List<EnrollmentResponseDTO> findByCurrentProfessorSubjects() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChangeVersion findCurrentProfessorVersion() {
         Long professorId = securityContextService.getCurrentProfessorId();
-        List<Subject> professorSubjects = subjectRepository.findByProfessorId(professorId);
+        return new ChangeVersion("professor-" + professorId, subjectRepository.findVersionByProfessorId(professorId));
+    }
 
-        return professorSubjects.stream()
-                .flatMap(subject -> enrollmentRepository.findBySubjectId(subject.getId()).stream())
-                .map(enrollment -> enrollmentMapper.toResponseDTO(enrollment, enrollmentJpaRepository))
-                .toList();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChangeVersion findSubjectVersion(Long subjectId) {
+        return new ChangeVersion("subject-" + subjectId, enrollmentRepository.findVersionBySubjectId(subjectId));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<EnrollmentResponseDTO> findByCurrentProfessorSubjects() {
+        Long professorId = securityContextService.getCurrentProfessorId();
+        return findEnrollments(EnrollmentFilter.bySubjectProfessorId(professorId),
+                () -> enrollmentRepository.findBySubjectProfessorId(professorId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<EnrollmentResponseDTO> findByStatus(EnrollmentStatus status) {
-        List<Enrollment> enrollments = enrollmentRepository.findByStatus(status);
-        return enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository);
+        return findEnrollments(EnrollmentFilter.byStatus(status),
+                () -> enrollmentRepository.findByStatus(status));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<EnrollmentResponseDTO> findApprovedBySubjectId(Long subjectId) {
-        List<Enrollment> enrollments = enrollmentRepository.findApprovedBySubjectId(subjectId);
-        return enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository);
+        return findEnrollments(EnrollmentFilter.approvedInSubject(subjectId),
+                () -> enrollmentRepository.findApprovedBySubjectId(subjectId));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<EnrollmentResponseDTO> findReprobedBySubjectId(Long subjectId) {
-        List<Enrollment> enrollments = enrollmentRepository.findReprobedBySubjectId(subjectId);
-        return enrollmentMapper.toResponseDTOList(enrollments, enrollmentJpaRepository);
+        return findEnrollments(EnrollmentFilter.reprovedInSubject(subjectId),
+                () -> enrollmentRepository.findReprobedBySubjectId(subjectId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findAllNormalized() {
+        return normalize(enrollmentRepository.findAll());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findByStudentIdNormalized(Long studentId) {
+        return normalize(enrollmentRepository.findByStudentId(studentId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findBySubjectIdNormalized(Long subjectId) {
+        return singleFlight.read(SUBJECT_ENROLLMENTS_FLIGHT, subjectId + "|normalized",
+                () -> normalize(enrollmentRepository.findBySubjectId(subjectId)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findByCurrentProfessorSubjectsNormalized() {
+        Long professorId = securityContextService.getCurrentProfessorId();
+        return normalize(enrollmentRepository.findBySubjectProfessorId(professorId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findByStatusNormalized(EnrollmentStatus status) {
+        return normalize(enrollmentRepository.findByStatus(status));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findApprovedBySubjectIdNormalized(Long subjectId) {
+        return normalize(enrollmentRepository.findApprovedBySubjectId(subjectId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NormalizedEnrollmentListDTO findReprobedBySubjectIdNormalized(Long subjectId) {
+        return normalize(enrollmentRepository.findReprobedBySubjectId(subjectId));
     }
 
     public EnrollmentResponseDTO suspendEnrollment(Long enrollmentId) {
@@ -129,7 +209,7 @@ public class EnrollmentApplicationService {
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
 
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!enrollment.getSubject().getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsSubject(currentProfessorId, enrollment.getSubject().getId())) {
             throw new RuntimeException("You can only manage enrollments in your own subjects");
         }
 
@@ -144,7 +224,7 @@ public class EnrollmentApplicationService {
                 .orElseThrow(() -> new RuntimeException("Enrollment not found"));
 
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!enrollment.getSubject().getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsSubject(currentProfessorId, enrollment.getSubject().getId())) {
             throw new RuntimeException("You can only manage enrollments in your own subjects");
         }
 
@@ -155,14 +235,46 @@ public class EnrollmentApplicationService {
     }
 
     public void deleteEnrollment(Long enrollmentId) {
-        Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
-                .orElseThrow(() -> new RuntimeException("Enrollment not found"));
-
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!enrollment.getSubject().getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsEnrollment(currentProfessorId, enrollmentId)) {
+            if (!enrollmentRepository.existsById(enrollmentId)) {
+                throw new RuntimeException("Enrollment not found");
+            }
             throw new RuntimeException("You can only delete enrollments in your own subjects");
         }
 
+        Optional<Long> subjectId = enrollmentRepository.findSubjectIdById(enrollmentId);
         enrollmentRepository.deleteById(enrollmentId);
+        subjectId.ifPresent(seatReservations::release);
+    }
+
+    private List<EnrollmentResponseDTO> findEnrollments(EnrollmentFilter filter, Supplier<List<Enrollment>> loader) {
+        FieldSelection fields = FieldSelectionHolder.current();
+        if (enrollmentRepository.supportsFields(fields.getPaths())) {
+            return enrollmentMapper.fromFieldRows(enrollmentRepository.findFields(fields.getPaths(), filter));
+        }
+        return enrollmentMapper.toResponseDTOList(loader.get(), enrollmentJpaRepository);
+    }
+
+    private NormalizedEnrollmentListDTO normalize(List<Enrollment> enrollments) {
+        Map<Long, Student> students = new LinkedHashMap<>();
+        Map<Long, Subject> subjects = new LinkedHashMap<>();
+        for (Enrollment enrollment : enrollments) {
+            if (enrollment.getStudent() != null) {
+                students.putIfAbsent(enrollment.getStudent().getId(), enrollment.getStudent());
+            }
+            if (enrollment.getSubject() != null) {
+                subjects.putIfAbsent(enrollment.getSubject().getId(), enrollment.getSubject());
+            }
+        }
+
+        IncludedResourcesDTO included = IncludedResourcesDTO.builder()
+                .students(studentMapper.toResponseDTOList(List.copyOf(students.values())))
+                .subjects(subjectMapper.toResponseDTOList(List.copyOf(subjects.values()), enrollmentJpaRepository))
+                .build();
+        return NormalizedEnrollmentListDTO.builder()
+                .enrollments(enrollmentMapper.toNormalizedDTOList(enrollments))
+                .included(included)
+                .build();
     }
 }
\ No newline at end of file
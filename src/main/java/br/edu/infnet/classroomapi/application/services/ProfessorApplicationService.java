@@ -5,9 +5,15 @@ import br.edu.infnet.classroomapi.application.dto.response.ProfessorResponseDTO;
 import br.edu.infnet.classroomapi.application.mappers.ProfessorDTOMapper;
 import br.edu.infnet.classroomapi.domain.entities.Professor;
 import br.edu.infnet.classroomapi.domain.repositories.ProfessorRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TransactionCallbacks;
+import br.edu.infnet.classroomapi.infrastructure.security.credentials.CredentialCache;
+import br.edu.infnet.classroomapi.infrastructure.security.refresh.RefreshTokenService;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
+import br.edu.infnet.classroomapi.infrastructure.security.services.OwnershipService;
+import br.edu.infnet.classroomapi.infrastructure.security.services.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,7 +25,11 @@ public class ProfessorApplicationService {
 
     private final ProfessorRepository professorRepository;
     private final ProfessorDTOMapper professorMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final CredentialCache credentialCache;
+    private final OwnershipService ownershipService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public ProfessorResponseDTO createProfessor(CreateProfessorRequestDTO request) {
         if (professorRepository.existsByEmail(request.getEmail())) {
@@ -27,13 +37,13 @@ public class ProfessorApplicationService {
         }
 
         Professor professor = professorMapper.toDomain(request);
-        professor.setPassword(passwordEncoder.encode(request.getPassword()));
+        professor.setPassword(passwordHashingService.encode(request.getPassword()));
 
         Professor savedProfessor = professorRepository.save(professor);
         return professorMapper.toResponseDTO(savedProfessor);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessorResponseDTO findById(Long id) {
         Professor professor = professorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Professor not found with id: " + id));
@@ -41,7 +51,7 @@ public class ProfessorApplicationService {
         return professorMapper.toResponseDTO(professor);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessorResponseDTO findByEmail(String email) {
         Professor professor = professorRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Professor not found with email: " + email));
@@ -49,22 +59,28 @@ public class ProfessorApplicationService {
         return professorMapper.toResponseDTO(professor);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProfessorResponseDTO> findAll() {
         List<Professor> professors = professorRepository.findAll();
         return professorMapper.toResponseDTOList(professors);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ProfessorResponseDTO> findByName(String name) {
         List<Professor> professors = professorRepository.findByNameContainingIgnoreCase(name);
         return professorMapper.toResponseDTOList(professors);
     }
 
     public void deleteById(Long id) {
-        if (!professorRepository.findById(id).isPresent()) {
-            throw new RuntimeException("Professor not found with id: " + id);
-        }
+        Professor professor = professorRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Professor not found with id: " + id));
+
         professorRepository.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> {
+            credentialCache.invalidate(professor.getEmail());
+            refreshTokenService.revokeAllForProfessor(id);
+            tokenRevocationService.revokeAllForProfessor(id);
+            ownershipService.professorDeleted(id);
+        });
     }
 }
\ No newline at end of file
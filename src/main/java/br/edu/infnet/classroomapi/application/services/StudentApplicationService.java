@@ -1,6 +1,7 @@
 package br.edu.infnet.classroomapi.application.services;
 
 import br.edu.infnet.classroomapi.application.dto.request.CreateStudentRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
 import br.edu.infnet.classroomapi.application.dto.response.StudentResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.StudentSummaryDTO;
 import br.edu.infnet.classroomapi.application.mappers.StudentDTOMapper;
@@ -8,9 +9,12 @@ import br.edu.infnet.classroomapi.domain.entities.Student;
 import br.edu.infnet.classroomapi.domain.repositories.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +38,7 @@ public class StudentApplicationService {
         return studentMapper.toResponseDTO(savedStudent);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentResponseDTO findById(Long id) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
@@ -42,7 +46,12 @@ public class StudentApplicationService {
         return studentMapper.toResponseDTO(student);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return studentRepository.findUpdatedAtById(id);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentResponseDTO findByCpf(String cpf) {
         Student student = studentRepository.findByCpf(cpf)
                 .orElseThrow(() -> new RuntimeException("Student not found with CPF: " + cpf));
@@ -50,7 +59,7 @@ public class StudentApplicationService {
         return studentMapper.toResponseDTO(student);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentResponseDTO findByEmail(String email) {
         Student student = studentRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Student not found with email: " + email));
@@ -58,25 +67,31 @@ public class StudentApplicationService {
         return studentMapper.toResponseDTO(student);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<StudentResponseDTO> findAll() {
         List<Student> students = studentRepository.findAll();
         return studentMapper.toResponseDTOList(students);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchLookupDTO<StudentResponseDTO> findByIds(List<Long> ids) {
+        return BatchLookup.lookup(ids, studentRepository::findAllByIds, Student::getId,
+                studentMapper::toResponseDTOList);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<StudentSummaryDTO> findAllSummary() {
         List<Student> students = studentRepository.findAll();
         return studentMapper.toSummaryDTOList(students);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<StudentResponseDTO> findByName(String name) {
         List<Student> students = studentRepository.findByNameContainingIgnoreCase(name);
         return studentMapper.toResponseDTOList(students);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<StudentSummaryDTO> findBySubjectId(Long subjectId) {
         List<Student> students = studentRepository.findBySubjectId(subjectId);
         return studentMapper.toSummaryDTOList(students);
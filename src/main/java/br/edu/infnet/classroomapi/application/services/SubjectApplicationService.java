@@ -1,31 +1,46 @@
 package br.edu.infnet.classroomapi.application.services;
 
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
 import br.edu.infnet.classroomapi.application.dto.request.CreateSubjectRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
 import br.edu.infnet.classroomapi.application.dto.response.SubjectResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.SubjectSummaryDTO;
+import br.edu.infnet.classroomapi.application.fields.FieldSelectionHolder;
 import br.edu.infnet.classroomapi.application.mappers.SubjectDTOMapper;
 import br.edu.infnet.classroomapi.domain.entities.Professor;
 import br.edu.infnet.classroomapi.domain.entities.Subject;
 import br.edu.infnet.classroomapi.domain.repositories.ProfessorRepository;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
 import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SeatReservations;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SingleFlight;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TransactionCallbacks;
 import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.services.OwnershipService;
 import br.edu.infnet.classroomapi.infrastructure.security.services.SecurityContextService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SubjectApplicationService {
 
+    private static final String SUBJECT_FLIGHT = "subject";
+
     private final SubjectRepository subjectRepository;
     private final ProfessorRepository professorRepository;
     private final SubjectDTOMapper subjectMapper;
     private final EnrollmentJpaRepository enrollmentRepository;
     private final SecurityContextService securityContextService;
+    private final OwnershipService ownershipService;
+    private final SingleFlight singleFlight;
+    private final SeatReservations seatReservations;
 
     public SubjectResponseDTO createSubject(CreateSubjectRequestDTO request) {
         if (subjectRepository.existsByCode(request.getCode())) {
@@ -40,18 +55,26 @@ public class SubjectApplicationService {
         subject.setProfessor(professor);
 
         Subject savedSubject = subjectRepository.save(subject);
+        TransactionCallbacks.afterCommit(() -> ownershipService.subjectSaved(savedSubject.getId(), professorId));
         return subjectMapper.toResponseDTO(savedSubject, enrollmentRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SubjectResponseDTO findById(Long id) {
-        Subject subject = subjectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Subject not found with id: " + id));
+        return singleFlight.read(SUBJECT_FLIGHT, id + "|" + FieldSelectionHolder.current(), () -> {
+            Subject subject = subjectRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Subject not found with id: " + id));
 
-        return subjectMapper.toResponseDTO(subject, enrollmentRepository);
+            return subjectMapper.toResponseDTO(subject, enrollmentRepository);
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return subjectRepository.findVersionById(id);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SubjectResponseDTO findByCode(String code) {
         Subject subject = subjectRepository.findByCode(code)
                 .orElseThrow(() -> new RuntimeException("Subject not found with code: " + code));
@@ -59,32 +82,44 @@ public class SubjectApplicationService {
         return subjectMapper.toResponseDTO(subject, enrollmentRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SubjectResponseDTO> findAll() {
         List<Subject> subjects = subjectRepository.findAll();
         return subjectMapper.toResponseDTOList(subjects, enrollmentRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchLookupDTO<SubjectResponseDTO> findByIds(List<Long> ids) {
+        return BatchLookup.lookup(ids, subjectRepository::findAllByIds, Subject::getId,
+                subjects -> subjectMapper.toResponseDTOList(subjects, enrollmentRepository));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SubjectSummaryDTO> findAllSummary() {
         List<Subject> subjects = subjectRepository.findAll();
         return subjectMapper.toSummaryDTOList(subjects);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SubjectResponseDTO> findByName(String name) {
         List<Subject> subjects = subjectRepository.findByNameContainingIgnoreCase(name);
         return subjectMapper.toResponseDTOList(subjects, enrollmentRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SubjectResponseDTO> findByCurrentProfessor() {
         Long professorId = securityContextService.getCurrentProfessorId();
         List<Subject> subjects = subjectRepository.findByProfessorId(professorId);
         return subjectMapper.toResponseDTOList(subjects, enrollmentRepository);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChangeVersion findCurrentProfessorVersion() {
+        Long professorId = securityContextService.getCurrentProfessorId();
+        return new ChangeVersion("professor-" + professorId, subjectRepository.findVersionByProfessorId(professorId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SubjectResponseDTO> findByProfessorId(Long professorId) {
         List<Subject> subjects = subjectRepository.findByProfessorId(professorId);
         return subjectMapper.toResponseDTOList(subjects, enrollmentRepository);
@@ -95,7 +130,7 @@ public class SubjectApplicationService {
                 .orElseThrow(() -> new RuntimeException("Subject not found with id: " + id));
 
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!existingSubject.getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsSubject(currentProfessorId, id)) {
             throw new RuntimeException("You can only update your own subjects");
         }
 
@@ -108,20 +143,24 @@ public class SubjectApplicationService {
         updatedSubject.setId(id);
         updatedSubject.setProfessor(existingSubject.getProfessor());
         updatedSubject.setCreatedAt(existingSubject.getCreatedAt());
+        updatedSubject.setSeatsTaken(existingSubject.getSeatsTaken());
 
         Subject savedSubject = subjectRepository.save(updatedSubject);
+        seatReservations.reconcile(id);
         return subjectMapper.toResponseDTO(savedSubject, enrollmentRepository);
     }
 
     public void deleteById(Long id) {
-        Subject subject = subjectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Subject not found with id: " + id));
-
         Long currentProfessorId = securityContextService.getCurrentProfessorId();
-        if (!subject.getProfessor().getId().equals(currentProfessorId)) {
+        if (!ownershipService.ownsSubject(currentProfessorId, id)) {
+            if (!subjectRepository.existsById(id)) {
+                throw new RuntimeException("Subject not found with id: " + id);
+            }
             throw new RuntimeException("You can only delete your own subjects");
         }
 
         subjectRepository.deleteById(id);
+        seatReservations.evict(id);
+        TransactionCallbacks.afterCommit(() -> ownershipService.subjectDeleted(id));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package br.edu.infnet.classroomapi.domain.entities;
 
+import br.edu.infnet.classroomapi.domain.validators.DomainValidator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -28,34 +29,34 @@ public class Address {
     public String getFullAddress() {
         StringBuilder fullAddress = new StringBuilder();
         
-        if (street != null && !street.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(street)) {
             fullAddress.append(street);
-            if (number != null && !number.trim().isEmpty()) {
+            if (!DomainValidator.isBlank(number)) {
                 fullAddress.append(", ").append(number);
             }
         }
         
-        if (complement != null && !complement.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(complement)) {
             fullAddress.append(", ").append(complement);
         }
         
-        if (neighborhood != null && !neighborhood.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(neighborhood)) {
             fullAddress.append(" - ").append(neighborhood);
         }
         
-        if (city != null && !city.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(city)) {
             fullAddress.append(", ").append(city);
         }
         
-        if (state != null && !state.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(state)) {
             fullAddress.append(" - ").append(state);
         }
         
-        if (zipCode != null && !zipCode.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(zipCode)) {
             fullAddress.append(", ").append(zipCode);
         }
         
-        if (country != null && !country.trim().isEmpty()) {
+        if (!DomainValidator.isBlank(country)) {
             fullAddress.append(" - ").append(country);
         }
         
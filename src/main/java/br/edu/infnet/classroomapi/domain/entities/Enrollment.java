@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Enrollment {
+
+    public static final BigDecimal APPROVAL_GRADE = new BigDecimal("7.0");
     
     private Long id;
     private Student student;
@@ -64,7 +66,7 @@ public class Enrollment {
     }
 
     public boolean isApproved() {
-        return grade != null && grade.compareTo(new BigDecimal("7.0")) >= 0;
+        return grade != null && grade.compareTo(APPROVAL_GRADE) >= 0;
     }
 
     public boolean isCompleted() {
@@ -1,5 +1,7 @@
 package br.edu.infnet.classroomapi.domain.entities;
 
+import br.edu.infnet.classroomapi.domain.validators.DomainValidator;
+import br.edu.infnet.classroomapi.domain.validators.DomainViolations;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -36,18 +38,12 @@ public class Student {
     }
 
     private void validateRequiredFields(String name, String cpf, String email) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Name cannot be null or empty");
-        }
-        if (cpf == null || cpf.trim().isEmpty()) {
-            throw new IllegalArgumentException("CPF cannot be null or empty");
-        }
-        if (email == null || email.trim().isEmpty()) {
-            throw new IllegalArgumentException("Email cannot be null or empty");
-        }
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            throw new IllegalArgumentException("Invalid email format");
-        }
+        new DomainViolations()
+                .notBlank(name, "Name cannot be null or empty")
+                .notBlank(cpf, "CPF cannot be null or empty")
+                .notBlank(email, "Email cannot be null or empty")
+                .check(DomainValidator.isBlank(email) || DomainValidator.isValidEmail(email), "Invalid email format")
+                .throwIfAny();
     }
 
     public void addEnrollment(Enrollment enrollment) {
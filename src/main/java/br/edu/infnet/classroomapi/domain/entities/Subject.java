@@ -1,5 +1,6 @@
 package br.edu.infnet.classroomapi.domain.entities;
 
+import br.edu.infnet.classroomapi.domain.validators.DomainViolations;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,8 @@ public class Subject {
     private String code;
     private String description;
     private Integer workload;
+    private Integer capacity;
+    private int seatsTaken;
     private Professor professor;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -35,12 +38,10 @@ public class Subject {
     }
 
     private void validateRequiredFields(String name, String code) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Subject name cannot be null or empty");
-        }
-        if (code == null || code.trim().isEmpty()) {
-            throw new IllegalArgumentException("Subject code cannot be null or empty");
-        }
+        new DomainViolations()
+                .notBlank(name, "Subject name cannot be null or empty")
+                .notBlank(code, "Subject code cannot be null or empty")
+                .throwIfAny();
     }
 
     public void addEnrollment(Enrollment enrollment) {
@@ -57,6 +58,14 @@ public class Subject {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public boolean hasCapacityLimit() {
+        return capacity != null;
+    }
+
+    public int getAvailableSeats() {
+        return capacity != null ? Math.max(0, capacity - seatsTaken) : Integer.MAX_VALUE;
+    }
+
     public long getEnrolledStudentsCount() {
         return enrollments != null ? enrollments.size() : 0;
     }
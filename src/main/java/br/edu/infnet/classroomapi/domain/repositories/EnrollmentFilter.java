@@ -0,0 +1,40 @@
+package br.edu.infnet.classroomapi.domain.repositories;
+
+import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+
+/**
+ * Criteria for listing enrollments, independent of how a repository evaluates them. Unset
+ * fields do not constrain the result; {@code approved} selects graded enrollments on either
+ * side of {@link br.edu.infnet.classroomapi.domain.entities.Enrollment#APPROVAL_GRADE}.
+ */
+public record EnrollmentFilter(Long studentId, Long subjectId, Long professorId, EnrollmentStatus status,
+                               Boolean approved) {
+
+    public static EnrollmentFilter all() {
+        return new EnrollmentFilter(null, null, null, null, null);
+    }
+
+    public static EnrollmentFilter byStudentId(Long studentId) {
+        return new EnrollmentFilter(studentId, null, null, null, null);
+    }
+
+    public static EnrollmentFilter bySubjectId(Long subjectId) {
+        return new EnrollmentFilter(null, subjectId, null, null, null);
+    }
+
+    public static EnrollmentFilter bySubjectProfessorId(Long professorId) {
+        return new EnrollmentFilter(null, null, professorId, null, null);
+    }
+
+    public static EnrollmentFilter byStatus(EnrollmentStatus status) {
+        return new EnrollmentFilter(null, null, null, status, null);
+    }
+
+    public static EnrollmentFilter approvedInSubject(Long subjectId) {
+        return new EnrollmentFilter(null, subjectId, null, null, true);
+    }
+
+    public static EnrollmentFilter reprovedInSubject(Long subjectId) {
+        return new EnrollmentFilter(null, subjectId, null, null, false);
+    }
+}
@@ -4,7 +4,9 @@ import br.edu.infnet.classroomapi.domain.entities.Enrollment;
 import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface EnrollmentRepository {
@@ -13,6 +15,14 @@ public interface EnrollmentRepository {
     
     Optional<Enrollment> findById(Long id);
     
+    List<Enrollment> findAllByIds(Collection<Long> ids);
+    
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    ResourceVersion findVersionBySubjectId(Long subjectId);
+    
+    Optional<Long> findSubjectIdById(Long id);
+    
     Optional<Enrollment> findByStudentIdAndSubjectId(Long studentId, Long subjectId);
     
     List<Enrollment> findAll();
@@ -21,6 +31,8 @@ public interface EnrollmentRepository {
     
     List<Enrollment> findBySubjectId(Long subjectId);
     
+    List<Enrollment> findBySubjectProfessorId(Long professorId);
+    
     List<Enrollment> findByStatus(EnrollmentStatus status);
     
     List<Enrollment> findBySubjectIdAndStatus(Long subjectId, EnrollmentStatus status);
@@ -30,6 +42,12 @@ public interface EnrollmentRepository {
     List<Enrollment> findReprobedBySubjectId(Long subjectId);
     
     List<Enrollment> findByGradeGreaterThanEqual(BigDecimal grade);
+
+    boolean supportsFields(Collection<String> paths);
+
+    List<Map<String, Object>> findFields(Collection<String> paths, EnrollmentFilter filter);
+    
+    boolean existsById(Long id);
     
     boolean existsByStudentIdAndSubjectId(Long studentId, Long subjectId);
     
@@ -0,0 +1,24 @@
+package br.edu.infnet.classroomapi.domain.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of a representation as the database sees it: the latest {@code updated_at} among the
+ * rows it embeds, plus a revision packing two derived counts, such as enrollments and seats
+ * taken, that change without touching any of those rows' {@code updated_at}. Being read from
+ * the rows themselves, it agrees across nodes and survives restarts.
+ */
+public record ResourceVersion(LocalDateTime updatedAt, long revision) {
+
+    public static final ResourceVersion NONE = new ResourceVersion(null, 0L);
+
+    public static ResourceVersion of(long high, long low, LocalDateTime... updatedAts) {
+        LocalDateTime latest = null;
+        for (LocalDateTime updatedAt : updatedAts) {
+            if (updatedAt != null && (latest == null || updatedAt.isAfter(latest))) {
+                latest = updatedAt;
+            }
+        }
+        return new ResourceVersion(latest, high << 32 | (low & 0xFFFFFFFFL));
+    }
+}
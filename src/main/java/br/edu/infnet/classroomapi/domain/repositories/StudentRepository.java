@@ -2,6 +2,8 @@ package br.edu.infnet.classroomapi.domain.repositories;
 
 import br.edu.infnet.classroomapi.domain.entities.Student;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +13,10 @@ public interface StudentRepository {
     
     Optional<Student> findById(Long id);
     
+    List<Student> findAllByIds(Collection<Long> ids);
+    
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+    
     Optional<Student> findByCpf(String cpf);
     
     Optional<Student> findByEmail(String email);
@@ -2,6 +2,7 @@ package br.edu.infnet.classroomapi.domain.repositories;
 
 import br.edu.infnet.classroomapi.domain.entities.Subject;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,12 @@ public interface SubjectRepository {
     
     Optional<Subject> findById(Long id);
     
+    List<Subject> findAllByIds(Collection<Long> ids);
+    
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    ResourceVersion findVersionByProfessorId(Long professorId);
+    
     Optional<Subject> findByCode(String code);
     
     List<Subject> findAll();
@@ -19,8 +26,18 @@ public interface SubjectRepository {
     
     List<Subject> findByProfessorId(Long professorId);
     
+    boolean existsById(Long id);
+    
     boolean existsByCode(String code);
     
+    boolean takeSeat(Long id);
+    
+    boolean releaseSeat(Long id);
+    
+    void reconcileSeats(Long id);
+    
+    int reconcileAllSeats();
+    
     void deleteById(Long id);
     
     long count();
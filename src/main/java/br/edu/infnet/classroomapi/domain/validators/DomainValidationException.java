@@ -0,0 +1,16 @@
+package br.edu.infnet.classroomapi.domain.validators;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class DomainValidationException extends IllegalArgumentException {
+
+    private final List<String> violations;
+
+    public DomainValidationException(List<String> violations) {
+        super(String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+}
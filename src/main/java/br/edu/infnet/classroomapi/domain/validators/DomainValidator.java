@@ -4,6 +4,9 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class DomainValidator {
+
+    private static final int CPF_LENGTH = 11;
+    private static final int SUBJECT_CODE_MAX_LENGTH = 20;
     
     public static void validateNotNull(Object value, String fieldName) {
         if (value == null) {
@@ -13,22 +16,122 @@ public class DomainValidator {
     
     public static void validateNotEmpty(String value, String fieldName) {
         validateNotNull(value, fieldName);
-        if (value.trim().isEmpty()) {
+        if (isBlank(value)) {
             throw new IllegalArgumentException(fieldName + " cannot be empty");
         }
     }
     
     public static void validateEmail(String email) {
         validateNotEmpty(email, "Email");
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+        if (!isValidEmail(email)) {
             throw new IllegalArgumentException("Invalid email format");
         }
     }
     
+    public static void validateCpf(String cpf, boolean verifyCheckDigits) {
+        validateNotEmpty(cpf, "CPF");
+        if (!isValidCpf(cpf, verifyCheckDigits)) {
+            throw new IllegalArgumentException("Invalid CPF");
+        }
+    }
+    
+    public static void validateSubjectCode(String code) {
+        validateNotEmpty(code, "Subject code");
+        if (!isValidSubjectCode(code)) {
+            throw new IllegalArgumentException("Invalid subject code format");
+        }
+    }
+    
     public static void validatePositive(Integer value, String fieldName) {
         validateNotNull(value, fieldName);
         if (value <= 0) {
             throw new IllegalArgumentException(fieldName + " must be positive");
         }
     }
-}
\ No newline at end of file
+
+    public static boolean isBlank(CharSequence value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = 0;
+        while (at < length && isEmailLocalChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at >= length - 1 || email.charAt(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValidCpf(CharSequence cpf, boolean verifyCheckDigits) {
+        if (cpf == null || cpf.length() != CPF_LENGTH) {
+            return false;
+        }
+        boolean allSame = true;
+        for (int i = 0; i < CPF_LENGTH; i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            allSame &= c == cpf.charAt(0);
+        }
+        if (!verifyCheckDigits) {
+            return true;
+        }
+        return !allSame
+                && cpfCheckDigit(cpf, 9) == cpf.charAt(9) - '0'
+                && cpfCheckDigit(cpf, 10) == cpf.charAt(10) - '0';
+    }
+
+    public static boolean isValidSubjectCode(CharSequence code) {
+        if (code == null || code.isEmpty() || code.length() > SUBJECT_CODE_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int cpfCheckDigit(CharSequence cpf, int digits) {
+        int sum = 0;
+        for (int i = 0; i < digits; i++) {
+            sum += (cpf.charAt(i) - '0') * (digits + 1 - i);
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,58 @@
+package br.edu.infnet.classroomapi.domain.validators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DomainViolations {
+
+    private List<String> messages;
+
+    public DomainViolations notNull(Object value, String fieldName) {
+        return check(value != null, fieldName + " cannot be null");
+    }
+
+    public DomainViolations notBlank(String value, String message) {
+        return check(!DomainValidator.isBlank(value), message);
+    }
+
+    public DomainViolations email(String value, String message) {
+        return check(DomainValidator.isValidEmail(value), message);
+    }
+
+    public DomainViolations cpf(String value, boolean verifyCheckDigits, String message) {
+        return check(DomainValidator.isValidCpf(value, verifyCheckDigits), message);
+    }
+
+    public DomainViolations subjectCode(String value, String message) {
+        return check(DomainValidator.isValidSubjectCode(value), message);
+    }
+
+    public DomainViolations positive(Integer value, String fieldName) {
+        return check(value != null && value > 0, fieldName + " must be positive");
+    }
+
+    public DomainViolations check(boolean valid, String message) {
+        if (!valid) {
+            if (messages == null) {
+                messages = new ArrayList<>(4);
+            }
+            messages.add(message);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return messages == null;
+    }
+
+    public List<String> getMessages() {
+        return messages == null ? List.of() : Collections.unmodifiableList(messages);
+    }
+
+    public void throwIfAny() {
+        if (messages != null) {
+            throw new DomainValidationException(messages);
+        }
+    }
+}
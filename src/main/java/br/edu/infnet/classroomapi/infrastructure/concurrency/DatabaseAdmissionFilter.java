@@ -0,0 +1,142 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "classroom.concurrency.admission", name = "enabled", matchIfMissing = true)
+public class DatabaseAdmissionFilter extends OncePerRequestFilter {
+
+    public static final String ACTIVE_METRIC = "classroom.admission.active";
+    public static final String REJECTED_METRIC = "classroom.admission.rejected";
+    public static final String WAIT_METRIC = "classroom.admission.wait";
+
+    private static final int DEFAULT_PERMITS = 10;
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+    private final Timer wait;
+
+    public DatabaseAdmissionFilter(ConcurrencyProperties properties, DataSource dataSource,
+                                   ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.maxConcurrent = resolvePermits(properties.getAdmission(), dataSource);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = properties.getAdmission().getAcquireTimeout().toNanos();
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder(REJECTED_METRIC).register(meterRegistry);
+        this.wait = Timer.builder(WAIT_METRIC).register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, this, filter -> filter.maxConcurrent - filter.permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Takes up to {@code wanted} more permits for an admitted request that fans out into
+     * concurrent sub-requests, without waiting. The caller runs as wide as the permits it got
+     * and must hand them back with {@link #releaseExtra(int)}.
+     */
+    public int tryAcquireExtra(int wanted) {
+        int taken = 0;
+        while (taken < wanted && permits.tryAcquire()) {
+            taken++;
+        }
+        return taken;
+    }
+
+    public void releaseExtra(int taken) {
+        if (taken > 0) {
+            permits.release(taken);
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("SERVICE_UNAVAILABLE", "Server is busy, please retry shortly"));
+    }
+
+    /**
+     * Uses the configured limit, or the Hikari pool size minus a headroom left for connections
+     * taken outside admitted requests, such as scheduled sweeps and startup reconciliation.
+     */
+    private static int resolvePermits(ConcurrencyProperties.Admission admission, DataSource dataSource) {
+        if (admission.getMaxConcurrent() > 0) {
+            return admission.getMaxConcurrent();
+        }
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return Math.max(1, poolSize - admission.getPoolHeadroom());
+            }
+        } catch (SQLException ignored) {
+            // Falls back to the default below.
+        }
+        return DEFAULT_PERMITS;
+    }
+}
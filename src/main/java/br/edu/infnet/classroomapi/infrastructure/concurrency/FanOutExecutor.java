@@ -0,0 +1,35 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+public class FanOutExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final boolean virtual;
+
+    public FanOutExecutor(ExecutorService executor, boolean virtual) {
+        this.executor = executor;
+        this.virtual = virtual;
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public <T> List<T> supplyAll(List<Supplier<T>> tasks) {
+        List<CompletableFuture<T>> futures = tasks.stream().map(this::supply).toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
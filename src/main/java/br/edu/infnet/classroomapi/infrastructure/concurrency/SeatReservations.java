@@ -0,0 +1,186 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.domain.entities.Subject;
+import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TransactionCallbacks;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.SubjectFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Reserves subject seats without serializing callers on the subject row. Each subject has an
+ * in-memory count of remaining seats that callers claim with a CAS before doing any work; only a
+ * caller holding a claim runs the conditional {@code seats_taken + 1} update, in its own
+ * transaction and before its enrollment writes. Taking the subject row's exclusive lock first
+ * keeps the enrollment INSERT from holding a shared lock on it through the foreign key, which
+ * would otherwise deadlock two concurrent reservations, and a rollback undoes the seat together
+ * with the enrollment. Once
+ * the count reaches zero the stampede is turned away in memory, re-reading the database at most
+ * once per {@code resync-interval} so seats freed on other nodes are noticed. The database update
+ * is the authority: a claim whose update matches no row means the subject is full.
+ */
+@Slf4j
+public class SeatReservations {
+
+    public static final String RESERVATIONS_METRIC = "classroom.seats.reservations";
+
+    private final TransactionOperations transactions;
+    private final SubjectRepository subjectRepository;
+    private final ConcurrencyProperties.Seats properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, Seats> seats = new ConcurrentHashMap<>();
+
+    public SeatReservations(TransactionOperations transactions, SubjectRepository subjectRepository,
+                            ConcurrencyProperties.Seats properties, MeterRegistry meterRegistry) {
+        this.transactions = transactions;
+        this.subjectRepository = subjectRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Takes a seat in the given subject and then runs the caller's writes, in the caller's transaction.
+     * The subject's seat count is used as a fresh snapshot when the in-memory count needs one.
+     * Subjects without a capacity never touch the seat count.
+     *
+     * @throws SubjectFullException if the subject is full; the caller's transaction must roll back
+     */
+    public <T> T reserve(Subject subject, Supplier<T> writes) {
+        if (!subject.hasCapacityLimit()) {
+            return writes.get();
+        }
+
+        long now = System.nanoTime();
+        Seats remaining = seats.computeIfAbsent(subject.getId(), id -> new Seats(subject.getAvailableSeats(), now));
+        boolean claimed = remaining.tryClaim()
+                || (remaining.resync(subject.getAvailableSeats(), now, properties) && remaining.tryClaim());
+        if (!claimed) {
+            throw full(subject);
+        }
+
+        boolean taken;
+        try {
+            taken = subjectRepository.takeSeat(subject.getId());
+        } catch (RuntimeException e) {
+            remaining.giveBack();
+            throw e;
+        }
+        if (!taken) {
+            remaining.exhausted(System.nanoTime());
+            throw full(subject);
+        }
+        TransactionCallbacks.onRollback(remaining::giveBack);
+        count("reserved");
+        return writes.get();
+    }
+
+    /**
+     * Gives back a seat in the caller's transaction, e.g. after an enrollment is deleted. The
+     * in-memory count follows once the transaction commits, and only if a seat was actually held.
+     */
+    public void release(Long subjectId) {
+        if (!subjectRepository.releaseSeat(subjectId)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Seats remaining = seats.get(subjectId);
+            if (remaining != null) {
+                remaining.giveBack();
+            }
+            count("released");
+        });
+    }
+
+    /**
+     * Recounts the seats taken in a subject from its enrollments, in the caller's transaction,
+     * and forgets the in-memory count once it commits. Used when a subject's capacity changes.
+     */
+    public void reconcile(Long subjectId) {
+        subjectRepository.reconcileSeats(subjectId);
+        evict(subjectId);
+    }
+
+    /**
+     * Forgets the in-memory count of a subject that was deleted.
+     */
+    public void evict(Long subjectId) {
+        TransactionCallbacks.afterCommit(() -> seats.remove(subjectId));
+    }
+
+    /**
+     * Recounts every subject on startup, which backfills {@code seats_taken} after the column is
+     * added and repairs counts left behind by a node that died mid-enrollment.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAll() {
+        if (!properties.isReconcileOnStartup()) {
+            return;
+        }
+        Integer subjects = transactions.execute(status -> subjectRepository.reconcileAllSeats());
+        seats.clear();
+        log.info("Seat counts reconciled for {} subjects", subjects);
+    }
+
+    private SubjectFullException full(Subject subject) {
+        count("full");
+        return new SubjectFullException("Subject " + subject.getCode() + " has no seats left");
+    }
+
+    private void count(String result) {
+        Counter.builder(RESERVATIONS_METRIC)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static final class Seats {
+
+        private final AtomicInteger count;
+        private volatile long checkedAt;
+
+        private Seats(int available, long now) {
+            this.count = new AtomicInteger(available);
+            this.checkedAt = now;
+        }
+
+        private boolean tryClaim() {
+            int current;
+            do {
+                current = count.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private void giveBack() {
+            count.incrementAndGet();
+        }
+
+        private boolean resync(int available, long now, ConcurrencyProperties.Seats properties) {
+            long last = checkedAt;
+            if (now - last < properties.getResyncInterval().toNanos() || available <= 0) {
+                return false;
+            }
+            checkedAt = now;
+            count.set(available);
+            return true;
+        }
+
+        private void exhausted(long now) {
+            count.set(0);
+            checkedAt = now;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key runs the loader and every
+ * caller that arrives while it is in flight waits for the same result instead of querying on
+ * its own. The loader runs without a wrapping transaction, like the rest of the read path, so
+ * each query borrows a connection only for itself and none is held while the result is mapped.
+ * Waiters give up after the group's timeout and evict the stuck flight so the next caller
+ * starts a fresh one.
+ */
+public class SingleFlight {
+
+    public static final String CALLS_METRIC = "classroom.singleflight.calls";
+    public static final String IN_FLIGHT_METRIC = "classroom.singleflight.inflight";
+
+    private static final String BUSY_MESSAGE = "The requested resource is busy, please retry shortly";
+
+    private final ConcurrencyProperties.Coalescing properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(ConcurrencyProperties.Coalescing properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, Map::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T read(String group, Object key, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        String flightKey = group + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            count(group, "shared");
+            return (T) await(flightKey, existing, properties.timeoutFor(group));
+        }
+
+        count(group, "leader");
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object await(String flightKey, CompletableFuture<Object> flight, Duration timeout) {
+        try {
+            return flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            inFlight.remove(flightKey, flight);
+            count(flightKey.substring(0, flightKey.indexOf(':')), "timeout");
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Coalesced read failed", ex.getCause());
+        }
+    }
+
+    private void count(String group, String result) {
+        Counter.builder(CALLS_METRIC)
+                .tag("group", group)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,55 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency.config;
+
+import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.FanOutExecutor;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SeatReservations;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyProperties.class)
+public class ConcurrencyConfig {
+
+    @Bean(destroyMethod = "close")
+    public FanOutExecutor fanOutExecutor(Environment environment, ConcurrencyProperties properties) {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        ExecutorService executor;
+        if (virtual) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+        } else {
+            int poolSize = properties.getFanOutPoolSize();
+            executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(poolSize * 16),
+                    Thread.ofPlatform().name("fan-out-", 0).daemon().factory(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        return new FanOutExecutor(new DelegatingSecurityContextExecutorService(executor), virtual);
+    }
+
+    @Bean
+    public SingleFlight singleFlight(ConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlight(properties.getCoalescing(), meterRegistry);
+    }
+
+    @Bean
+    public SeatReservations seatReservations(PlatformTransactionManager transactionManager,
+                                             SubjectRepository subjectRepository, ConcurrencyProperties properties,
+                                             MeterRegistry meterRegistry) {
+        return new SeatReservations(new TransactionTemplate(transactionManager), subjectRepository,
+                properties.getSeats(), meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.concurrency")
+public class ConcurrencyProperties {
+
+    private int fanOutPoolSize = 16;
+    private final Admission admission = new Admission();
+    private final Pinning pinning = new Pinning();
+    private final Coalescing coalescing = new Coalescing();
+    private final Seats seats = new Seats();
+
+    @Data
+    public static class Admission {
+
+        private boolean enabled = true;
+        private int maxConcurrent = 0;
+        private int poolHeadroom = 2;
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Pinning {
+
+        private boolean enabled = true;
+        private Duration threshold = Duration.ofMillis(20);
+    }
+
+    @Data
+    public static class Coalescing {
+
+        private boolean enabled = true;
+        private Duration timeout = Duration.ofSeconds(5);
+        private Map<String, Duration> timeouts = new HashMap<>();
+
+        public Duration timeoutFor(String group) {
+            return timeouts.getOrDefault(group, timeout);
+        }
+    }
+
+    @Data
+    public static class Seats {
+
+        private Duration resyncInterval = Duration.ofSeconds(1);
+        private boolean reconcileOnStartup = true;
+    }
+}
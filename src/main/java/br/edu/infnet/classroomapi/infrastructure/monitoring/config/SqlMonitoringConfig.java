@@ -0,0 +1,39 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.config;
+
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.CountingStatementInspector;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.EntityLoadCountingListener;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.SqlTimingSessionEventListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SqlMonitoringProperties.class)
+@ConditionalOnProperty(prefix = "classroom.monitoring.sql", name = "enabled", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMonitoringHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionEventListener.class.getName());
+        };
+    }
+
+    @Bean
+    public EntityLoadCountingListener entityLoadCountingListener(EntityManagerFactory entityManagerFactory) {
+        EntityLoadCountingListener listener = new EntityLoadCountingListener();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,14 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.monitoring.sql")
+public class SqlMonitoringProperties {
+
+    private boolean enabled = true;
+    private boolean responseHeaders = true;
+    private double logSampleRate = 0.01;
+    private int logStatementThreshold = 20;
+}
@@ -0,0 +1,52 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String CALLS_METRIC = "classroom.service.calls";
+    public static final String ERRORS_METRIC = "classroom.service.errors";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * br.edu.infnet.classroomapi.application.services.*ApplicationService.*(..)) || " +
+            "execution(public * br.edu.infnet.classroomapi.infrastructure.security.services.AuthService.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timer(service, method, "success"));
+            return result;
+        } catch (Throwable ex) {
+            sample.stop(timer(service, method, "error"));
+            Counter.builder(ERRORS_METRIC)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw ex;
+        }
+    }
+
+    private Timer timer(String service, String method, String outcome) {
+        return Timer.builder(CALLS_METRIC)
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.current();
+        if (statistics != null) {
+            statistics.recordStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,15 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+public class EntityLoadCountingListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.current();
+        if (statistics != null) {
+            statistics.recordLoadedEntity();
+        }
+    }
+}
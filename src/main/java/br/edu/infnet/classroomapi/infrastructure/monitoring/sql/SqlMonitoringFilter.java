@@ -0,0 +1,102 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import br.edu.infnet.classroomapi.infrastructure.monitoring.config.SqlMonitoringProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "classroom.monitoring.sql", name = "enabled", matchIfMissing = true)
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    public static final String QUERIES_HEADER = "X-DB-Queries";
+    public static final String TIME_HEADER = "X-DB-Time";
+    public static final String CONNECTION_TIME_HEADER = "X-DB-Connection-Time";
+    public static final String CONNECTION_HOLD_METRIC = "classroom.db.connection.hold";
+
+    private static final String LOG_FORMAT =
+            "sql_stats handler={} method={} status={} queries={} entities={} db_time_ms={} connection_hold_ms={}";
+
+    private final SqlMonitoringProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStatisticsHolder.finish(statistics);
+            if (!response.isCommitted()) {
+                writeHeaders(response, statistics, properties);
+            }
+            recordConnectionHold(request, statistics);
+            logStatistics(request, response, statistics);
+        }
+    }
+
+    static void writeHeaders(HttpServletResponse response, SqlStatementStatistics statistics, SqlMonitoringProperties properties) {
+        if (properties.isResponseHeaders()) {
+            response.setHeader(QUERIES_HEADER, String.valueOf(statistics.getStatements()));
+            response.setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.2f", statistics.getDatabaseMillis()));
+            response.setHeader(CONNECTION_TIME_HEADER, String.format(Locale.ROOT, "%.2f", statistics.getConnectionHoldMillis()));
+        }
+    }
+
+    private void recordConnectionHold(HttpServletRequest request, SqlStatementStatistics statistics) {
+        if (statistics.getConnectionAcquisitions() == 0) {
+            return;
+        }
+        Timer.builder(CONNECTION_HOLD_METRIC)
+                .tag("handler", handlerName(request, "none"))
+                .register(meterRegistry)
+                .record(statistics.getConnectionHoldNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void logStatistics(HttpServletRequest request, HttpServletResponse response, SqlStatementStatistics statistics) {
+        boolean overThreshold = statistics.getStatements() >= properties.getLogStatementThreshold();
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.getLogSampleRate();
+        if (!overThreshold && !sampled) {
+            return;
+        }
+
+        Object[] arguments = {
+                handlerName(request, request.getRequestURI()), request.getMethod(), response.getStatus(), statistics.getStatements(),
+                statistics.getLoadedEntities(), String.format(Locale.ROOT, "%.2f", statistics.getDatabaseMillis()),
+                String.format(Locale.ROOT, "%.2f", statistics.getConnectionHoldMillis())
+        };
+        if (overThreshold) {
+            log.warn(LOG_FORMAT, arguments);
+        } else {
+            log.info(LOG_FORMAT, arguments);
+        }
+    }
+
+    private String handlerName(HttpServletRequest request, String fallback) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,39 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import br.edu.infnet.classroomapi.infrastructure.monitoring.config.SqlMonitoringProperties;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "classroom.monitoring.sql", name = "enabled", matchIfMissing = true)
+public class SqlMonitoringResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlMonitoringProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isResponseHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.current();
+        if (statistics != null && response instanceof ServletServerHttpResponse servletResponse) {
+            HttpServletResponse httpResponse = servletResponse.getServletResponse();
+            SqlMonitoringFilter.writeHeaders(httpResponse, statistics, properties);
+        }
+        return body;
+    }
+}
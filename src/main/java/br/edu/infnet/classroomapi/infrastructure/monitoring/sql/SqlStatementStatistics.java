@@ -0,0 +1,85 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public class SqlStatementStatistics {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final SqlStatementStatistics parent;
+
+    @Getter(AccessLevel.NONE)
+    private final List<String> executedSql;
+
+    private int statements;
+    private int loadedEntities;
+    private long databaseNanos;
+    private int connectionAcquisitions;
+    private long connectionWaitNanos;
+    private long connectionHoldNanos;
+
+    SqlStatementStatistics(SqlStatementStatistics parent, boolean captureSql) {
+        this.parent = parent;
+        this.executedSql = captureSql ? new ArrayList<>() : null;
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        if (executedSql != null) {
+            executedSql.add(sql);
+        }
+        if (parent != null) {
+            parent.recordStatement(sql);
+        }
+    }
+
+    void recordLoadedEntity() {
+        loadedEntities++;
+        if (parent != null) {
+            parent.recordLoadedEntity();
+        }
+    }
+
+    void recordExecution(long nanos) {
+        databaseNanos += nanos;
+        if (parent != null) {
+            parent.recordExecution(nanos);
+        }
+    }
+
+    void recordConnectionAcquired(long waitNanos) {
+        connectionAcquisitions++;
+        connectionWaitNanos += waitNanos;
+        if (parent != null) {
+            parent.recordConnectionAcquired(waitNanos);
+        }
+    }
+
+    void recordConnectionReleased(long holdNanos) {
+        connectionHoldNanos += holdNanos;
+        if (parent != null) {
+            parent.recordConnectionReleased(holdNanos);
+        }
+    }
+
+    public List<String> getExecutedSql() {
+        return executedSql != null ? Collections.unmodifiableList(executedSql) : List.of();
+    }
+
+    public double getDatabaseMillis() {
+        return databaseNanos / 1_000_000.0;
+    }
+
+    public double getConnectionWaitMillis() {
+        return connectionWaitNanos / 1_000_000.0;
+    }
+
+    public double getConnectionHoldMillis() {
+        return connectionHoldNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,35 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class SqlStatementStatisticsHolder {
+
+    private static final ThreadLocal<SqlStatementStatistics> CURRENT = new ThreadLocal<>();
+
+    public static SqlStatementStatistics start() {
+        return start(false);
+    }
+
+    public static SqlStatementStatistics start(boolean captureSql) {
+        SqlStatementStatistics statistics = new SqlStatementStatistics(CURRENT.get(), captureSql);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatementStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void finish(SqlStatementStatistics statistics) {
+        if (statistics.getParent() != null) {
+            CURRENT.set(statistics.getParent());
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
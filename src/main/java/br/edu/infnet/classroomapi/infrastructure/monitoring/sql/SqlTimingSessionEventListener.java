@@ -0,0 +1,62 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import org.hibernate.SessionEventListener;
+
+public class SqlTimingSessionEventListener implements SessionEventListener {
+
+    private transient long executionStart;
+    private transient long acquisitionStart;
+    private transient long acquiredAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        acquiredAt = System.nanoTime();
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.current();
+        if (statistics != null && acquisitionStart != 0) {
+            statistics.recordConnectionAcquired(acquiredAt - acquisitionStart);
+        }
+        acquisitionStart = 0;
+    }
+
+    @Override
+    public void jdbcConnectionReleaseEnd() {
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.current();
+        if (statistics != null && acquiredAt != 0) {
+            statistics.recordConnectionReleased(System.nanoTime() - acquiredAt);
+        }
+        acquiredAt = 0;
+    }
+
+    private void recordExecution() {
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.current();
+        if (statistics != null && executionStart != 0) {
+            statistics.recordExecution(System.nanoTime() - executionStart);
+        }
+        executionStart = 0;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -32,6 +33,19 @@ public class SubjectEntity {
     @Column
     private Integer workload;
     
+    @Column
+    private Integer capacity;
+    
+    /**
+     * Only ever changed by the conditional seat updates in {@link
+     * br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository},
+     * so merging a detached subject cannot overwrite reservations made in the meantime. Rows that
+     * predate the column start at zero and are recounted from their enrollments on startup.
+     */
+    @ColumnDefault("0")
+    @Column(name = "seats_taken", nullable = false, updatable = false)
+    private int seatsTaken;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professor_id")
     private ProfessorEntity professor;
@@ -0,0 +1,25 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.projections;
+
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+
+import java.time.LocalDateTime;
+
+public interface EnrollmentVersion {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getStudentUpdatedAt();
+
+    LocalDateTime getSubjectUpdatedAt();
+
+    LocalDateTime getProfessorUpdatedAt();
+
+    Integer getSeatsTaken();
+
+    Long getEnrolledCount();
+
+    default ResourceVersion toVersion() {
+        return ResourceVersion.of(getEnrolledCount(), getSeatsTaken(), getUpdatedAt(), getStudentUpdatedAt(),
+                getSubjectUpdatedAt(), getProfessorUpdatedAt());
+    }
+}
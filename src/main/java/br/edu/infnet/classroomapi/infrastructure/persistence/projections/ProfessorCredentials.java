@@ -0,0 +1,6 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.projections;
+
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+
+public record ProfessorCredentials(Long id, String email, String password, UserRole role, String name) {
+}
@@ -0,0 +1,25 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.projections;
+
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+
+import java.time.LocalDateTime;
+
+public interface ProfessorSubjectsVersion {
+
+    LocalDateTime getProfessorUpdatedAt();
+
+    LocalDateTime getSubjectsUpdatedAt();
+
+    LocalDateTime getEnrollmentsUpdatedAt();
+
+    LocalDateTime getStudentsUpdatedAt();
+
+    Long getSubjectCount();
+
+    Long getEnrollmentCount();
+
+    default ResourceVersion toVersion() {
+        return ResourceVersion.of(getSubjectCount(), getEnrollmentCount(), getProfessorUpdatedAt(),
+                getSubjectsUpdatedAt(), getEnrollmentsUpdatedAt(), getStudentsUpdatedAt());
+    }
+}
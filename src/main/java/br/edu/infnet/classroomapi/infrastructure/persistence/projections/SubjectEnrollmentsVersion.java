@@ -0,0 +1,25 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.projections;
+
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+
+import java.time.LocalDateTime;
+
+public interface SubjectEnrollmentsVersion {
+
+    LocalDateTime getSubjectUpdatedAt();
+
+    LocalDateTime getProfessorUpdatedAt();
+
+    LocalDateTime getEnrollmentsUpdatedAt();
+
+    LocalDateTime getStudentsUpdatedAt();
+
+    Long getEnrollmentCount();
+
+    Integer getSeatsTaken();
+
+    default ResourceVersion toVersion() {
+        return ResourceVersion.of(getEnrollmentCount(), getSeatsTaken(), getSubjectUpdatedAt(),
+                getProfessorUpdatedAt(), getEnrollmentsUpdatedAt(), getStudentsUpdatedAt());
+    }
+}
@@ -0,0 +1,8 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.projections;
+
+public interface SubjectOwner {
+
+    Long getSubjectId();
+
+    Long getProfessorId();
+}
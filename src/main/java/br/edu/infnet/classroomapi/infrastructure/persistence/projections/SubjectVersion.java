@@ -0,0 +1,20 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.projections;
+
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+
+import java.time.LocalDateTime;
+
+public interface SubjectVersion {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getProfessorUpdatedAt();
+
+    Integer getSeatsTaken();
+
+    Long getEnrolledCount();
+
+    default ResourceVersion toVersion() {
+        return ResourceVersion.of(getEnrolledCount(), getSeatsTaken(), getUpdatedAt(), getProfessorUpdatedAt());
+    }
+}
@@ -0,0 +1,133 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
+
+import br.edu.infnet.classroomapi.domain.entities.Enrollment;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.ProfessorEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentFieldQuery {
+
+    private static final Map<String, BiFunction<Joins, CriteriaBuilder, Expression<?>>> COLUMNS = columns();
+
+    private final EntityManager entityManager;
+
+    public static boolean supports(Collection<String> paths) {
+        return !paths.isEmpty() && COLUMNS.keySet().containsAll(paths);
+    }
+
+    public List<Map<String, Object>> find(Collection<String> paths, Specification<EnrollmentEntity> filter) {
+        if (!supports(paths)) {
+            throw new IllegalArgumentException("Unsupported enrollment fields: " + paths);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<EnrollmentEntity> root = query.from(EnrollmentEntity.class);
+        Joins joins = new Joins(root);
+
+        List<String> selected = new ArrayList<>(paths);
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (String path : selected) {
+            selections.add(COLUMNS.get(path).apply(joins, cb));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < selected.size(); i++) {
+                row.put(selected.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Map<String, BiFunction<Joins, CriteriaBuilder, Expression<?>>> columns() {
+        Map<String, BiFunction<Joins, CriteriaBuilder, Expression<?>>> columns = new LinkedHashMap<>();
+        for (String attribute : Set.of("id", "status", "grade", "enrollmentDate", "completionDate", "createdAt", "updatedAt")) {
+            columns.put(attribute, (joins, cb) -> joins.root.get(attribute));
+        }
+        columns.put("approved", (joins, cb) -> cb.<Boolean>selectCase()
+                .when(cb.ge(joins.root.get("grade"), Enrollment.APPROVAL_GRADE), true)
+                .otherwise(false));
+
+        columns.put("student.id", (joins, cb) -> joins.root.get("student").get("id"));
+        for (String attribute : Set.of("name", "cpf", "email", "phone", "createdAt", "updatedAt")) {
+            columns.put("student." + attribute, (joins, cb) -> joins.student().get(attribute));
+        }
+
+        columns.put("subject.id", (joins, cb) -> joins.root.get("subject").get("id"));
+        for (String attribute : Set.of("name", "code", "description", "workload", "capacity", "createdAt", "updatedAt")) {
+            columns.put("subject." + attribute, (joins, cb) -> joins.subject().get(attribute));
+        }
+
+        columns.put("subject.professor.id", (joins, cb) -> joins.subject().get("professor").get("id"));
+        for (String attribute : Set.of("name", "email", "role", "createdAt", "updatedAt")) {
+            columns.put("subject.professor." + attribute, (joins, cb) -> joins.professor().get(attribute));
+        }
+        return Map.copyOf(columns);
+    }
+
+    private static final class Joins {
+
+        private final Root<EnrollmentEntity> root;
+        private Join<EnrollmentEntity, StudentEntity> student;
+        private Join<EnrollmentEntity, SubjectEntity> subject;
+        private Join<SubjectEntity, ProfessorEntity> professor;
+
+        private Joins(Root<EnrollmentEntity> root) {
+            this.root = root;
+        }
+
+        private Join<EnrollmentEntity, StudentEntity> student() {
+            if (student == null) {
+                student = root.join("student");
+            }
+            return student;
+        }
+
+        private Join<EnrollmentEntity, SubjectEntity> subject() {
+            if (subject == null) {
+                subject = root.join("subject");
+            }
+            return subject;
+        }
+
+        private Join<SubjectEntity, ProfessorEntity> professor() {
+            if (professor == null) {
+                professor = subject().join("professor");
+            }
+            return professor;
+        }
+    }
+}
@@ -2,44 +2,96 @@ package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
 
 import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
 import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.EnrollmentVersion;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectEnrollmentCount;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectEnrollmentsVersion;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EnrollmentJpaRepository extends JpaRepository<EnrollmentEntity, Long> {
     
+    @Override
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
+    Optional<EnrollmentEntity> findById(Long id);
+    
+    @Override
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
+    List<EnrollmentEntity> findAll();
+    
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
+    List<EnrollmentEntity> findByIdIn(Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     Optional<EnrollmentEntity> findByStudentIdAndSubjectId(Long studentId, Long subjectId);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     List<EnrollmentEntity> findByStudentId(Long studentId);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     List<EnrollmentEntity> findBySubjectId(Long subjectId);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
+    List<EnrollmentEntity> findBySubjectProfessorId(Long professorId);
+    
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     List<EnrollmentEntity> findByStatus(EnrollmentStatus status);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     List<EnrollmentEntity> findBySubjectIdAndStatus(Long subjectId, EnrollmentStatus status);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     @Query("SELECT e FROM EnrollmentEntity e " +
            "WHERE e.subject.id = :subjectId " +
            "AND e.grade >= 7.0")
     List<EnrollmentEntity> findApprovedBySubjectId(@Param("subjectId") Long subjectId);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     @Query("SELECT e FROM EnrollmentEntity e " +
            "WHERE e.subject.id = :subjectId " +
            "AND e.grade < 7.0 " +
            "AND e.grade IS NOT NULL")
     List<EnrollmentEntity> findReprobedBySubjectId(@Param("subjectId") Long subjectId);
     
+    @EntityGraph(attributePaths = {"student", "subject", "subject.professor"})
     List<EnrollmentEntity> findByGradeGreaterThanEqual(BigDecimal grade);
     
     boolean existsByStudentIdAndSubjectId(Long studentId, Long subjectId);
     
+    boolean existsByIdAndSubjectProfessorId(Long id, Long professorId);
+    
     long countBySubjectId(Long subjectId);
     
+    @Query("SELECT s.id AS subjectId, COUNT(e.id) AS enrolledCount FROM SubjectEntity s " +
+           "LEFT JOIN s.enrollments e " +
+           "WHERE s.id IN :subjectIds " +
+           "GROUP BY s.id")
+    List<SubjectEnrollmentCount> countGroupedBySubjectIds(@Param("subjectIds") Collection<Long> subjectIds);
+    
     long countByStatus(EnrollmentStatus status);
+    
+    @Query("SELECT e.updatedAt AS updatedAt, st.updatedAt AS studentUpdatedAt, s.updatedAt AS subjectUpdatedAt, "
+            + "p.updatedAt AS professorUpdatedAt, s.seatsTaken AS seatsTaken, "
+            + "(SELECT COUNT(other) FROM EnrollmentEntity other WHERE other.subject.id = s.id) AS enrolledCount "
+            + "FROM EnrollmentEntity e JOIN e.student st JOIN e.subject s LEFT JOIN s.professor p WHERE e.id = :id")
+    Optional<EnrollmentVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT s.updatedAt AS subjectUpdatedAt, p.updatedAt AS professorUpdatedAt, "
+            + "(SELECT MAX(e.updatedAt) FROM EnrollmentEntity e WHERE e.subject.id = s.id) AS enrollmentsUpdatedAt, "
+            + "(SELECT MAX(st.updatedAt) FROM EnrollmentEntity e JOIN e.student st WHERE e.subject.id = s.id) AS studentsUpdatedAt, "
+            + "(SELECT COUNT(e) FROM EnrollmentEntity e WHERE e.subject.id = s.id) AS enrollmentCount, "
+            + "s.seatsTaken AS seatsTaken "
+            + "FROM SubjectEntity s LEFT JOIN s.professor p WHERE s.id = :subjectId")
+    Optional<SubjectEnrollmentsVersion> findVersionBySubjectId(@Param("subjectId") Long subjectId);
+    
+    @Query("SELECT e.subject.id FROM EnrollmentEntity e WHERE e.id = :id")
+    Optional<Long> findSubjectIdById(@Param("id") Long id);
 }
\ No newline at end of file
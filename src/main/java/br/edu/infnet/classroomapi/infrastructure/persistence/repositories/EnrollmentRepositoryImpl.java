@@ -2,13 +2,19 @@ package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
 
 import br.edu.infnet.classroomapi.domain.entities.Enrollment;
 import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.repositories.EnrollmentFilter;
 import br.edu.infnet.classroomapi.domain.repositories.EnrollmentRepository;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
 import br.edu.infnet.classroomapi.infrastructure.persistence.mappers.EnrollmentEntityMapper;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.EnrollmentVersion;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectEnrollmentsVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +23,7 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
     
     private final EnrollmentJpaRepository jpaRepository;
     private final EnrollmentEntityMapper mapper;
+    private final EnrollmentFieldQuery fieldQuery;
     
     @Override
     public Enrollment save(Enrollment enrollment) {
@@ -31,6 +38,28 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public List<Enrollment> findAllByIds(Collection<Long> ids) {
+        return mapper.toDomainList(IdChunks.fetch(ids, jpaRepository::findByIdIn));
+    }
+    
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id).map(EnrollmentVersion::toVersion);
+    }
+
+    @Override
+    public ResourceVersion findVersionBySubjectId(Long subjectId) {
+        return jpaRepository.findVersionBySubjectId(subjectId)
+                .map(SubjectEnrollmentsVersion::toVersion)
+                .orElse(ResourceVersion.NONE);
+    }
+    
+    @Override
+    public Optional<Long> findSubjectIdById(Long id) {
+        return jpaRepository.findSubjectIdById(id);
+    }
+    
     @Override
     public Optional<Enrollment> findByStudentIdAndSubjectId(Long studentId, Long subjectId) {
         return jpaRepository.findByStudentIdAndSubjectId(studentId, subjectId)
@@ -52,6 +81,11 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
         return mapper.toDomainList(jpaRepository.findBySubjectId(subjectId));
     }
     
+    @Override
+    public List<Enrollment> findBySubjectProfessorId(Long professorId) {
+        return mapper.toDomainList(jpaRepository.findBySubjectProfessorId(professorId));
+    }
+    
     @Override
     public List<Enrollment> findByStatus(EnrollmentStatus status) {
         return mapper.toDomainList(jpaRepository.findByStatus(status));
@@ -77,6 +111,21 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
         return mapper.toDomainList(jpaRepository.findByGradeGreaterThanEqual(grade));
     }
     
+    @Override
+    public boolean supportsFields(Collection<String> paths) {
+        return EnrollmentFieldQuery.supports(paths);
+    }
+    
+    @Override
+    public List<Map<String, Object>> findFields(Collection<String> paths, EnrollmentFilter filter) {
+        return fieldQuery.find(paths, EnrollmentSpecifications.matching(filter));
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+    
     @Override
     public boolean existsByStudentIdAndSubjectId(Long studentId, Long subjectId) {
         return jpaRepository.existsByStudentIdAndSubjectId(studentId, subjectId);
@@ -0,0 +1,60 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
+
+import br.edu.infnet.classroomapi.domain.entities.Enrollment;
+import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.repositories.EnrollmentFilter;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+@UtilityClass
+public class EnrollmentSpecifications {
+
+    public static Specification<EnrollmentEntity> matching(EnrollmentFilter filter) {
+        Specification<EnrollmentEntity> specification = all();
+        if (filter.studentId() != null) {
+            specification = specification.and(byStudentId(filter.studentId()));
+        }
+        if (filter.subjectId() != null) {
+            specification = specification.and(bySubjectId(filter.subjectId()));
+        }
+        if (filter.professorId() != null) {
+            specification = specification.and(bySubjectProfessorId(filter.professorId()));
+        }
+        if (filter.status() != null) {
+            specification = specification.and(byStatus(filter.status()));
+        }
+        if (filter.approved() != null) {
+            specification = specification.and(filter.approved() ? approved() : reproved());
+        }
+        return specification;
+    }
+
+    public static Specification<EnrollmentEntity> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<EnrollmentEntity> byStudentId(Long studentId) {
+        return (root, query, cb) -> cb.equal(root.get("student").get("id"), studentId);
+    }
+
+    public static Specification<EnrollmentEntity> bySubjectId(Long subjectId) {
+        return (root, query, cb) -> cb.equal(root.get("subject").get("id"), subjectId);
+    }
+
+    public static Specification<EnrollmentEntity> bySubjectProfessorId(Long professorId) {
+        return (root, query, cb) -> cb.equal(root.get("subject").get("professor").get("id"), professorId);
+    }
+
+    public static Specification<EnrollmentEntity> byStatus(EnrollmentStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<EnrollmentEntity> approved() {
+        return (root, query, cb) -> cb.ge(root.get("grade"), Enrollment.APPROVAL_GRADE);
+    }
+
+    public static Specification<EnrollmentEntity> reproved() {
+        return (root, query, cb) -> cb.lt(root.get("grade"), Enrollment.APPROVAL_GRADE);
+    }
+}
@@ -0,0 +1,29 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs {@code IN} queries in fixed-size chunks, keeping every statement under the
+ * database's bind parameter limit and the number of distinct SQL shapes small.
+ */
+@UtilityClass
+class IdChunks {
+
+    static final int CHUNK_SIZE = 500;
+
+    static <T> List<T> fetch(Collection<Long> ids, Function<List<Long>, List<T>> query) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        List<T> results = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, distinctIds.size());
+            results.addAll(query.apply(distinctIds.subList(from, to)));
+        }
+        return results;
+    }
+}
@@ -1,11 +1,15 @@
 package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
 
 import br.edu.infnet.classroomapi.infrastructure.persistence.entities.ProfessorEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorCredentials;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +22,14 @@ public interface ProfessorJpaRepository extends JpaRepository<ProfessorEntity, L
     List<ProfessorEntity> findByNameContainingIgnoreCase(@Param("name") String name);
     
     boolean existsByEmail(String email);
+
+    @Query("SELECT new br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorCredentials(" +
+           "p.id, p.email, p.password, p.role, p.name) FROM ProfessorEntity p WHERE p.email = :email")
+    Optional<ProfessorCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProfessorEntity p SET p.password = :password, p.updatedAt = :updatedAt WHERE p.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt);
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public interface StudentJpaRepository extends JpaRepository<StudentEntity, Long>
     
     Optional<StudentEntity> findByEmail(String email);
     
+    List<StudentEntity> findByIdIn(Collection<Long> ids);
+    
     @Query("SELECT s FROM StudentEntity s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<StudentEntity> findByNameContainingIgnoreCase(@Param("name") String name);
     
@@ -27,4 +31,7 @@ public interface StudentJpaRepository extends JpaRepository<StudentEntity, Long>
     boolean existsByCpf(String cpf);
     
     boolean existsByEmail(String email);
+    
+    @Query("SELECT s.updatedAt FROM StudentEntity s WHERE s.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 }
\ No newline at end of file
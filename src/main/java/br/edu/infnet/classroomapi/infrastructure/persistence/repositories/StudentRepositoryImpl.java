@@ -6,6 +6,8 @@ import br.edu.infnet.classroomapi.infrastructure.persistence.mappers.StudentEnti
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,16 @@ public class StudentRepositoryImpl implements StudentRepository {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public List<Student> findAllByIds(Collection<Long> ids) {
+        return mapper.toDomainList(IdChunks.fetch(ids, jpaRepository::findByIdIn));
+    }
+    
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return jpaRepository.findUpdatedAtById(id);
+    }
+    
     @Override
     public Optional<Student> findByCpf(String cpf) {
         return jpaRepository.findByCpf(cpf)
@@ -1,23 +1,83 @@
 package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
 
 import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorSubjectsVersion;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectOwner;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectVersion;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SubjectJpaRepository extends JpaRepository<SubjectEntity, Long> {
     
+    @Override
+    @EntityGraph(attributePaths = "professor")
+    Optional<SubjectEntity> findById(Long id);
+    
+    @Override
+    @EntityGraph(attributePaths = "professor")
+    List<SubjectEntity> findAll();
+    
+    @EntityGraph(attributePaths = "professor")
+    List<SubjectEntity> findByIdIn(Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = "professor")
     Optional<SubjectEntity> findByCode(String code);
     
+    @EntityGraph(attributePaths = "professor")
     @Query("SELECT s FROM SubjectEntity s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<SubjectEntity> findByNameContainingIgnoreCase(@Param("name") String name);
     
+    @EntityGraph(attributePaths = "professor")
     List<SubjectEntity> findByProfessorId(Long professorId);
     
     boolean existsByCode(String code);
+    
+    boolean existsByIdAndProfessorId(Long id, Long professorId);
+    
+    @Query("SELECT s.id AS subjectId, s.professor.id AS professorId FROM SubjectEntity s")
+    List<SubjectOwner> findAllOwners();
+    
+    @Query("SELECT s.updatedAt AS updatedAt, p.updatedAt AS professorUpdatedAt, s.seatsTaken AS seatsTaken, "
+            + "(SELECT COUNT(e) FROM EnrollmentEntity e WHERE e.subject.id = s.id) AS enrolledCount "
+            + "FROM SubjectEntity s LEFT JOIN s.professor p WHERE s.id = :id")
+    Optional<SubjectVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT p.updatedAt AS professorUpdatedAt, "
+            + "(SELECT MAX(s.updatedAt) FROM SubjectEntity s WHERE s.professor.id = p.id) AS subjectsUpdatedAt, "
+            + "(SELECT MAX(e.updatedAt) FROM EnrollmentEntity e WHERE e.subject.professor.id = p.id) AS enrollmentsUpdatedAt, "
+            + "(SELECT MAX(st.updatedAt) FROM EnrollmentEntity e JOIN e.student st "
+            + "WHERE e.subject.professor.id = p.id) AS studentsUpdatedAt, "
+            + "(SELECT COUNT(s) FROM SubjectEntity s WHERE s.professor.id = p.id) AS subjectCount, "
+            + "(SELECT COUNT(e) FROM EnrollmentEntity e WHERE e.subject.professor.id = p.id) AS enrollmentCount "
+            + "FROM ProfessorEntity p WHERE p.id = :professorId")
+    Optional<ProfessorSubjectsVersion> findVersionByProfessorId(@Param("professorId") Long professorId);
+    
+    @Modifying
+    @Query("UPDATE SubjectEntity s SET s.seatsTaken = s.seatsTaken + 1 "
+            + "WHERE s.id = :id AND s.seatsTaken < s.capacity")
+    int takeSeat(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE SubjectEntity s SET s.seatsTaken = s.seatsTaken - 1 "
+            + "WHERE s.id = :id AND s.capacity IS NOT NULL AND s.seatsTaken > 0")
+    int releaseSeat(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE SubjectEntity s SET s.seatsTaken = "
+            + "(SELECT COUNT(e) FROM EnrollmentEntity e WHERE e.subject.id = s.id) WHERE s.id = :id")
+    int reconcileSeats(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE SubjectEntity s SET s.seatsTaken = "
+            + "(SELECT COUNT(e) FROM EnrollmentEntity e WHERE e.subject.id = s.id)")
+    int reconcileAllSeats();
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
 
 import br.edu.infnet.classroomapi.domain.entities.Subject;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
 import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
 import br.edu.infnet.classroomapi.infrastructure.persistence.mappers.SubjectEntityMapper;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorSubjectsVersion;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +32,23 @@ public class SubjectRepositoryImpl implements SubjectRepository {
         return jpaRepository.findById(id)
                 .map(mapper::toDomain);
     }
+    
+    @Override
+    public List<Subject> findAllByIds(Collection<Long> ids) {
+        return mapper.toDomainList(IdChunks.fetch(ids, jpaRepository::findByIdIn));
+    }
+    
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id).map(SubjectVersion::toVersion);
+    }
+
+    @Override
+    public ResourceVersion findVersionByProfessorId(Long professorId) {
+        return jpaRepository.findVersionByProfessorId(professorId)
+                .map(ProfessorSubjectsVersion::toVersion)
+                .orElse(ResourceVersion.NONE);
+    }
 
     @Override
     public Optional<Subject> findByCode(String code) {
@@ -50,11 +71,36 @@ public class SubjectRepositoryImpl implements SubjectRepository {
         return mapper.toDomainList(jpaRepository.findByProfessorId(professorId));
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+
     @Override
     public boolean existsByCode(String code) {
         return jpaRepository.existsByCode(code);
     }
 
+    @Override
+    public boolean takeSeat(Long id) {
+        return jpaRepository.takeSeat(id) > 0;
+    }
+
+    @Override
+    public boolean releaseSeat(Long id) {
+        return jpaRepository.releaseSeat(id) > 0;
+    }
+
+    @Override
+    public void reconcileSeats(Long id) {
+        jpaRepository.reconcileSeats(id);
+    }
+
+    @Override
+    public int reconcileAllSeats() {
+        return jpaRepository.reconcileAllSeats();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -0,0 +1,15 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.security.credentials")
+public class CredentialCacheProperties {
+
+    private boolean enabled = true;
+    private Duration timeToLive = Duration.ofSeconds(30);
+    private int maximumSize = 10_000;
+}
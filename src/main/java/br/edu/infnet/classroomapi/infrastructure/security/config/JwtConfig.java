@@ -1,48 +1,54 @@
 package br.edu.infnet.classroomapi.infrastructure.security.config;
 
-import com.nimbusds.jose.jwk.JWK;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.CachingJwtDecoder;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtKeyRing;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.RevocationJwtValidator;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
 import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.util.StringUtils;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.nio.file.Path;
+import java.time.Clock;
 
+@Slf4j
 @Configuration
+@EnableConfigurationProperties({JwtProperties.class, TokenRevocationProperties.class})
 public class JwtConfig {
 
-
     @Bean
-    public KeyPair keyPair() {
-        try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            return keyPairGenerator.generateKeyPair();
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating RSA key pair", e);
+    public JwtKeyRing jwtKeyRing(JwtProperties properties) {
+        JwtProperties.Keys keys = properties.getKeys();
+        if (!StringUtils.hasText(keys.getDirectory())) {
+            log.warn("No JWT key directory configured; signing with an ephemeral {} key that other nodes cannot verify",
+                    properties.getAlgorithm());
+            return JwtKeyRing.generate(properties.getAlgorithm());
         }
-    }
 
-    @Bean
-    public RSAKey rsaKey(KeyPair keyPair) {
-        return new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
-                .privateKey((RSAPrivateKey) keyPair.getPrivate())
-                .build();
+        JwtKeyRing keyRing = JwtKeyRing.load(Path.of(keys.getDirectory()), keys.getActiveKeyId(), properties.getAlgorithm());
+        log.info("Loaded {} JWT verification keys from {}; signing with kid={}",
+                keyRing.getVerificationKeys().size(), keys.getDirectory(), keyRing.getSigningKey().getKeyID());
+        return keyRing;
     }
 
     @Bean
-    public JWKSource<SecurityContext> jwkSource(RSAKey rsaKey) {
-        JWKSet jwkSet = new JWKSet(rsaKey);
+    public JWKSource<SecurityContext> jwkSource(JwtKeyRing jwtKeyRing) {
+        JWKSet jwkSet = new JWKSet(jwtKeyRing.getSigningKey());
         return new ImmutableJWKSet<>(jwkSet);
     }
 
@@ -52,11 +58,21 @@ public class JwtConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder(RSAKey rsaKey) {
-        try {
-            return NimbusJwtDecoder.withPublicKey((RSAPublicKey) rsaKey.toRSAPublicKey()).build();
-        } catch (Exception e) {
-            throw new RuntimeException("Error creating JWT decoder", e);
+    public JwtDecoder jwtDecoder(JwtKeyRing jwtKeyRing, JwtProperties properties, TokenRevocationService revocationService,
+                                 MeterRegistry meterRegistry) {
+        JWKSource<SecurityContext> verificationKeys = new ImmutableJWKSet<>(jwtKeyRing.getVerificationKeys());
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(properties.getAlgorithm().getJwsAlgorithm(), verificationKeys));
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        RevocationJwtValidator revocationValidator = new RevocationJwtValidator(revocationService);
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), revocationValidator));
+        if (!properties.getCache().isEnabled()) {
+            return decoder;
         }
+        return new CachingJwtDecoder(decoder, revocationValidator, properties.getCache().getMaximumSize(),
+                meterRegistry, Clock.systemUTC());
     }
-}
\ No newline at end of file
+}
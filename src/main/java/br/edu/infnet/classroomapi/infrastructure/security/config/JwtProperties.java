@@ -0,0 +1,28 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtSigningAlgorithm;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.security.jwt")
+public class JwtProperties {
+
+    private JwtSigningAlgorithm algorithm = JwtSigningAlgorithm.RS256;
+    private final Keys keys = new Keys();
+    private final Cache cache = new Cache();
+
+    @Data
+    public static class Keys {
+
+        private String directory;
+        private String activeKeyId;
+    }
+
+    @Data
+    public static class Cache {
+
+        private boolean enabled = true;
+        private int maximumSize = 10_000;
+    }
+}
@@ -0,0 +1,20 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.security.password")
+public class PasswordHashingProperties {
+
+    private int strength = 10;
+    private int threads = 0;
+    private int queueCapacity = 32;
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,29 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import br.edu.infnet.classroomapi.infrastructure.security.refresh.InMemoryRefreshTokenStore;
+import br.edu.infnet.classroomapi.infrastructure.security.refresh.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RefreshTokenProperties.class)
+public class RefreshTokenConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RefreshTokenStore.class)
+    public RefreshTokenStore refreshTokenStore() {
+        return new InMemoryRefreshTokenStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(Clock.class)
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
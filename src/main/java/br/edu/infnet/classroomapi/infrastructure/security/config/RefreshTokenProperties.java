@@ -0,0 +1,14 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.security.refresh")
+public class RefreshTokenProperties {
+
+    private Duration timeToLive = Duration.ofDays(7);
+    private Duration sweepInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,15 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.security.revocation")
+public class TokenRevocationProperties {
+
+    private int expectedRevocations = 100_000;
+    private double falsePositiveRate = 0.01;
+    private Duration sweepInterval = Duration.ofMinutes(5);
+}
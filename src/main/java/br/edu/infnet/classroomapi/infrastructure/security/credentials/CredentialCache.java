@@ -0,0 +1,130 @@
+package br.edu.infnet.classroomapi.infrastructure.security.credentials;
+
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorCredentials;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.config.CredentialCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Service
+public class CredentialCache {
+
+    public static final String REQUESTS_METRIC = "classroom.auth.credentials.cache.requests";
+    public static final String SIZE_METRIC = "classroom.auth.credentials.cache.size";
+
+    private final ProfessorJpaRepository professorRepository;
+    private final CredentialCacheProperties properties;
+    private final Clock clock;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    /** Cached emails ordered by expiry; once the cache is full, the entry closest to expiring is evicted first. */
+    private final ConcurrentSkipListSet<Expiry> expiries = new ConcurrentSkipListSet<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CredentialCache(ProfessorJpaRepository professorRepository, CredentialCacheProperties properties,
+                           MeterRegistry meterRegistry, Clock clock) {
+        this.professorRepository = professorRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.hits = Counter.builder(REQUESTS_METRIC).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(REQUESTS_METRIC).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, cache, Map::size).register(meterRegistry);
+    }
+
+    public Optional<ProfessorCredentials> findByEmail(String email) {
+        if (!properties.isEnabled()) {
+            return professorRepository.findCredentialsByEmail(email);
+        }
+
+        Instant now = clock.instant();
+        Entry cached = cache.get(email);
+        if (cached != null) {
+            if (now.isBefore(cached.expiresAt())) {
+                hits.increment();
+                return Optional.of(cached.credentials());
+            }
+            remove(email, cached);
+        }
+
+        misses.increment();
+        Optional<ProfessorCredentials> credentials = professorRepository.findCredentialsByEmail(email);
+        if (credentials.isPresent()) {
+            put(email, new Entry(credentials.get(), now.plus(properties.getTimeToLive())));
+        }
+        return credentials;
+    }
+
+    public void updatePassword(ProfessorCredentials credentials, String encodedPassword) {
+        professorRepository.updatePassword(credentials.id(), encodedPassword, LocalDateTime.now());
+        invalidate(credentials.email());
+    }
+
+    public void invalidate(String email) {
+        Entry cached = cache.get(email);
+        if (cached != null) {
+            remove(email, cached);
+        }
+    }
+
+    public void invalidate(Long professorId) {
+        cache.forEach((email, entry) -> {
+            if (entry.credentials().id().equals(professorId)) {
+                remove(email, entry);
+            }
+        });
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void put(String email, Entry entry) {
+        Entry previous = cache.put(email, entry);
+        if (previous != null) {
+            expiries.remove(new Expiry(previous.expiresAt(), email));
+        }
+        expiries.add(new Expiry(entry.expiresAt(), email));
+        evictOverflow();
+    }
+
+    private void remove(String email, Entry entry) {
+        if (cache.remove(email, entry)) {
+            expiries.remove(new Expiry(entry.expiresAt(), email));
+        }
+    }
+
+    private void evictOverflow() {
+        while (cache.size() > properties.getMaximumSize()) {
+            Expiry soonest = expiries.pollFirst();
+            if (soonest == null) {
+                return;
+            }
+            cache.remove(soonest.email());
+        }
+    }
+
+    private record Entry(ProfessorCredentials credentials, Instant expiresAt) {
+    }
+
+    private record Expiry(Instant expiresAt, String email) implements Comparable<Expiry> {
+
+        private static final Comparator<Expiry> ORDER =
+                Comparator.comparing(Expiry::expiresAt).thenComparing(Expiry::email);
+
+        @Override
+        public int compareTo(Expiry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.edu.infnet.classroomapi.infrastructure.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String REQUESTS_METRIC = "classroom.jwt.cache.requests";
+    public static final String SIZE_METRIC = "classroom.jwt.cache.size";
+
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> hitValidator;
+    private final int maximumSize;
+    private final Clock clock;
+    private final Map<String, Jwt> cache = new ConcurrentHashMap<>();
+    /** Cached keys ordered by expiry; once the cache is full, the entry closest to expiring is evicted first. */
+    private final ConcurrentSkipListSet<Expiry> expiries = new ConcurrentSkipListSet<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> hitValidator, int maximumSize,
+                             MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.hitValidator = hitValidator;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.hits = Counter.builder(REQUESTS_METRIC).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(REQUESTS_METRIC).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, cache, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = TokenDigest.sha256(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            if (isLive(cached, clock.instant())) {
+                hits.increment();
+                OAuth2TokenValidatorResult result = hitValidator.validate(cached);
+                if (result.hasErrors()) {
+                    remove(key, cached);
+                    throw new JwtValidationException(result.getErrors().iterator().next().getDescription(), result.getErrors());
+                }
+                return cached;
+            }
+            remove(key, cached);
+        }
+
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && cache.putIfAbsent(key, jwt) == null) {
+            expiries.add(new Expiry(jwt.getExpiresAt(), key));
+            evictOverflow();
+        }
+        return jwt;
+    }
+
+    public void invalidate(String token) {
+        String key = TokenDigest.sha256(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            remove(key, cached);
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void remove(String key, Jwt jwt) {
+        if (cache.remove(key, jwt)) {
+            expiries.remove(new Expiry(jwt.getExpiresAt(), key));
+        }
+    }
+
+    private void evictOverflow() {
+        while (cache.size() > maximumSize) {
+            Expiry soonest = expiries.pollFirst();
+            if (soonest == null) {
+                return;
+            }
+            cache.remove(soonest.key());
+        }
+    }
+
+    private static boolean isLive(Jwt jwt, Instant now) {
+        return jwt.getExpiresAt() != null && now.isBefore(jwt.getExpiresAt());
+    }
+
+    private record Expiry(Instant expiresAt, String key) implements Comparable<Expiry> {
+
+        private static final Comparator<Expiry> ORDER =
+                Comparator.comparing(Expiry::expiresAt).thenComparing(Expiry::key);
+
+        @Override
+        public int compareTo(Expiry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
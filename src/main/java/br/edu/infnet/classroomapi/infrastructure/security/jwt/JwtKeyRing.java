@@ -0,0 +1,55 @@
+package br.edu.infnet.classroomapi.infrastructure.security.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class JwtKeyRing {
+
+    private final JWK signingKey;
+    private final JWKSet verificationKeys;
+
+    public JwtKeyRing(JWK signingKey, List<JWK> keys) {
+        if (!signingKey.isPrivate()) {
+            throw new IllegalStateException("JWT signing key '" + signingKey.getKeyID() + "' has no private key");
+        }
+        this.signingKey = signingKey;
+        this.verificationKeys = new JWKSet(keys.stream().map(JWK::toPublicJWK).toList());
+    }
+
+    public static JwtKeyRing generate(JwtSigningAlgorithm algorithm) {
+        JWK key = algorithm.generateKey();
+        return new JwtKeyRing(key, List.of(key));
+    }
+
+    public static JwtKeyRing load(Path directory, String activeKeyId, JwtSigningAlgorithm algorithm) {
+        List<JWK> keys = PemJwkLoader.load(directory, algorithm);
+        List<JWK> candidates = keys.stream()
+                .filter(JWK::isPrivate)
+                .filter(key -> !StringUtils.hasText(activeKeyId) || key.getKeyID().equals(activeKeyId))
+                .toList();
+
+        if (candidates.size() != 1) {
+            throw new IllegalStateException(StringUtils.hasText(activeKeyId)
+                    ? "No private key with kid '" + activeKeyId + "' found in " + directory
+                    : "Set an active key id: " + directory + " holds " + candidates.size() + " private keys");
+        }
+        return new JwtKeyRing(candidates.get(0), keys);
+    }
+
+    public JWK getSigningKey() {
+        return signingKey;
+    }
+
+    public JWKSet getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    public Map<String, Object> toPublicJson() {
+        return verificationKeys.toJSONObject(true);
+    }
+}
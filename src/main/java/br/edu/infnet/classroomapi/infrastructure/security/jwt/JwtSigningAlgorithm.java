@@ -0,0 +1,101 @@
+package br.edu.infnet.classroomapi.infrastructure.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.UUID;
+
+public enum JwtSigningAlgorithm {
+
+    RS256(SignatureAlgorithm.RS256, "RSA") {
+        @Override
+        public JWK toJwk(String keyId, PublicKey publicKey, PrivateKey privateKey) {
+            RSAKey.Builder builder = new RSAKey.Builder((RSAPublicKey) publicKey)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .keyID(keyId);
+            if (privateKey != null) {
+                builder.privateKey((RSAPrivateKey) privateKey);
+            }
+            return builder.build();
+        }
+
+        @Override
+        protected JWK generate(String keyId) throws JOSEException {
+            return new RSAKeyGenerator(2048)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .keyID(keyId)
+                    .generate();
+        }
+    },
+    ES256(SignatureAlgorithm.ES256, "EC") {
+        @Override
+        public JWK toJwk(String keyId, PublicKey publicKey, PrivateKey privateKey) {
+            ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+            ECKey.Builder builder = new ECKey.Builder(Curve.forECParameterSpec(ecPublicKey.getParams()), ecPublicKey)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.ES256)
+                    .keyID(keyId);
+            if (privateKey != null) {
+                builder.privateKey((ECPrivateKey) privateKey);
+            }
+            return builder.build();
+        }
+
+        @Override
+        protected JWK generate(String keyId) throws JOSEException {
+            return new ECKeyGenerator(Curve.P_256)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.ES256)
+                    .keyID(keyId)
+                    .generate();
+        }
+    };
+
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final String keyType;
+
+    JwtSigningAlgorithm(SignatureAlgorithm signatureAlgorithm, String keyType) {
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.keyType = keyType;
+    }
+
+    public SignatureAlgorithm getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    public String getKeyType() {
+        return keyType;
+    }
+
+    public JWSAlgorithm getJwsAlgorithm() {
+        return JWSAlgorithm.parse(signatureAlgorithm.getName());
+    }
+
+    public JWK generateKey() {
+        try {
+            return generate(UUID.randomUUID().toString());
+        } catch (JOSEException e) {
+            throw new RuntimeException("Error generating " + name() + " signing key", e);
+        }
+    }
+
+    public abstract JWK toJwk(String keyId, PublicKey publicKey, PrivateKey privateKey);
+
+    protected abstract JWK generate(String keyId) throws JOSEException;
+}
@@ -0,0 +1,87 @@
+package br.edu.infnet.classroomapi.infrastructure.security.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public final class PemJwkLoader {
+
+    private static final String PEM_EXTENSION = ".pem";
+    private static final Pattern PEM_BLOCK = Pattern.compile(
+            "-----BEGIN ([A-Z ]+)-----([A-Za-z0-9+/=\\s]+)-----END \\1-----");
+
+    private PemJwkLoader() {
+    }
+
+    public static List<JWK> load(Path directory, JwtSigningAlgorithm algorithm) {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalStateException("JWT key directory does not exist: " + directory);
+        }
+
+        List<JWK> keys = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(PemJwkLoader::isPem).sorted().toList()) {
+                keys.add(read(file, algorithm));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading JWT keys from " + directory, e);
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("No " + PEM_EXTENSION + " keys found in " + directory);
+        }
+        return keys;
+    }
+
+    static JWK read(Path file, JwtSigningAlgorithm algorithm) throws IOException {
+        String fileName = file.getFileName().toString();
+        String keyId = fileName.substring(0, fileName.length() - PEM_EXTENSION.length());
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getKeyType());
+            PublicKey publicKey = null;
+            PrivateKey privateKey = null;
+
+            Matcher matcher = PEM_BLOCK.matcher(Files.readString(file));
+            while (matcher.find()) {
+                byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+                switch (matcher.group(1)) {
+                    case "PUBLIC KEY" -> publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(der));
+                    case "PRIVATE KEY" -> privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(der));
+                    default -> throw new IllegalStateException(
+                            "Unsupported PEM block '" + matcher.group(1) + "' in " + file + "; expected PKCS#8 or X.509");
+                }
+            }
+
+            if (publicKey == null && privateKey instanceof RSAPrivateCrtKey rsaKey) {
+                publicKey = keyFactory.generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            }
+            if (publicKey == null) {
+                throw new IllegalStateException("No PUBLIC KEY block found in " + file);
+            }
+            return algorithm.toJwk(keyId, publicKey, privateKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + algorithm.getKeyType() + " key in " + file, e);
+        }
+    }
+
+    private static boolean isPem(Path file) {
+        return Files.isRegularFile(file) && file.getFileName().toString().endsWith(PEM_EXTENSION);
+    }
+}
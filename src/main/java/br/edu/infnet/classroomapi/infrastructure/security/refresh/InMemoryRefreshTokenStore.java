@@ -0,0 +1,63 @@
+package br.edu.infnet.classroomapi.infrastructure.security.refresh;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedFamilies = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshToken token) {
+        tokens.put(token.tokenHash(), token);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByHash(String tokenHash) {
+        RefreshToken token = tokens.get(tokenHash);
+        if (token == null || revokedFamilies.containsKey(token.familyId())) {
+            return Optional.empty();
+        }
+        return Optional.of(token);
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash) {
+        AtomicBoolean marked = new AtomicBoolean();
+        tokens.computeIfPresent(tokenHash, (hash, token) -> {
+            if (token.used()) {
+                return token;
+            }
+            marked.set(true);
+            return token.markUsed();
+        });
+        return marked.get();
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Instant until) {
+        revokedFamilies.merge(familyId, until, (current, requested) -> current.isAfter(requested) ? current : requested);
+        tokens.values().removeIf(token -> token.familyId().equals(familyId));
+    }
+
+    @Override
+    public void revokeProfessor(Long professorId) {
+        tokens.values().removeIf(token -> professorId.equals(token.professor().getId()));
+    }
+
+    @Override
+    public int removeExpired(Instant now) {
+        int before = tokens.size();
+        tokens.values().removeIf(token -> token.isExpired(now));
+        revokedFamilies.values().removeIf(until -> !now.isBefore(until));
+        return Math.max(0, before - tokens.size());
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+}
@@ -0,0 +1,16 @@
+package br.edu.infnet.classroomapi.infrastructure.security.refresh;
+
+import br.edu.infnet.classroomapi.infrastructure.security.services.ProfessorInfo;
+
+import java.time.Instant;
+
+public record RefreshToken(String tokenHash, String familyId, ProfessorInfo professor, Instant expiresAt, boolean used) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public RefreshToken markUsed() {
+        return new RefreshToken(tokenHash, familyId, professor, expiresAt, true);
+    }
+}
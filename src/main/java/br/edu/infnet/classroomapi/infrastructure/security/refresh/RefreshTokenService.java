@@ -0,0 +1,93 @@
+package br.edu.infnet.classroomapi.infrastructure.security.refresh;
+
+import br.edu.infnet.classroomapi.infrastructure.security.config.RefreshTokenProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.TokenDigest;
+import br.edu.infnet.classroomapi.infrastructure.security.services.ProfessorInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    public static final String REUSE_METRIC = "classroom.auth.refresh.reuse";
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_MESSAGE = "Invalid refresh token";
+
+    private final RefreshTokenStore store;
+    private final RefreshTokenProperties properties;
+    private final Clock clock;
+    private final Counter reuseDetected;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenStore store, RefreshTokenProperties properties, Clock clock,
+                               MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.clock = clock;
+        this.reuseDetected = Counter.builder(REUSE_METRIC).register(meterRegistry);
+    }
+
+    public String issue(ProfessorInfo professor) {
+        return issue(UUID.randomUUID().toString(), professor);
+    }
+
+    public Rotation rotate(String rawToken) {
+        String tokenHash = TokenDigest.sha256(rawToken);
+        RefreshToken current = store.findByHash(tokenHash)
+                .orElseThrow(() -> new BadCredentialsException(INVALID_MESSAGE));
+
+        if (current.isExpired(clock.instant())) {
+            throw new BadCredentialsException(INVALID_MESSAGE);
+        }
+        if (!store.markUsed(tokenHash)) {
+            reuseDetected.increment();
+            store.revokeFamily(current.familyId(), current.expiresAt());
+            log.warn("refresh_token_reuse family={} professor_id={}", current.familyId(), current.professor().getId());
+            throw new BadCredentialsException(INVALID_MESSAGE);
+        }
+
+        return new Rotation(current.professor(), issue(current.familyId(), current.professor()));
+    }
+
+    public void revoke(String rawToken) {
+        store.findByHash(TokenDigest.sha256(rawToken))
+                .ifPresent(token -> store.revokeFamily(token.familyId(), token.expiresAt()));
+    }
+
+    public void revokeAllForProfessor(Long professorId) {
+        store.revokeProfessor(professorId);
+    }
+
+    @Scheduled(fixedDelayString = "${classroom.security.refresh.sweep-interval:PT5M}")
+    public void sweepExpired() {
+        int removed = store.removeExpired(clock.instant());
+        if (removed > 0) {
+            log.debug("Removed {} expired refresh tokens", removed);
+        }
+    }
+
+    private String issue(String familyId, ProfessorInfo professor) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant expiresAt = clock.instant().plus(properties.getTimeToLive());
+        store.save(new RefreshToken(TokenDigest.sha256(rawToken), familyId, professor, expiresAt, false));
+        return rawToken;
+    }
+
+    public record Rotation(ProfessorInfo professor, String refreshToken) {
+    }
+}
@@ -0,0 +1,19 @@
+package br.edu.infnet.classroomapi.infrastructure.security.refresh;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenStore {
+
+    void save(RefreshToken token);
+
+    Optional<RefreshToken> findByHash(String tokenHash);
+
+    boolean markUsed(String tokenHash);
+
+    void revokeFamily(String familyId, Instant until);
+
+    void revokeProfessor(Long professorId);
+
+    int removeExpired(Instant now);
+}
@@ -0,0 +1,31 @@
+package br.edu.infnet.classroomapi.infrastructure.security.revocation;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+
+public class RevocationJwtValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2TokenValidatorResult REVOKED = OAuth2TokenValidatorResult.failure(
+            new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Token has been revoked", null));
+
+    private final TokenRevocationService revocationService;
+
+    public RevocationJwtValidator(TokenRevocationService revocationService) {
+        this.revocationService = revocationService;
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        Object tokenId = jwt.getClaims().get(JwtClaimNames.JTI);
+        Object professorId = jwt.getClaims().get("professorId");
+        if (revocationService.isRevoked(tokenId instanceof String id ? id : null,
+                professorId instanceof Long professor ? professor : null, jwt.getIssuedAt())) {
+            return REVOKED;
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
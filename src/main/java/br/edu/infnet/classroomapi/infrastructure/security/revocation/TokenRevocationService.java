@@ -0,0 +1,72 @@
+package br.edu.infnet.classroomapi.infrastructure.security.revocation;
+
+import br.edu.infnet.classroomapi.infrastructure.security.config.TokenRevocationProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.services.JwtTokenService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TokenRevocationService {
+
+    public static final String REVOKED_METRIC = "classroom.auth.revoked.tokens";
+
+    private final TokenRevocationProperties properties;
+    private final Clock clock;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Instant> notBefore = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter filter;
+
+    public TokenRevocationService(TokenRevocationProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clock = clock;
+        this.filter = newFilter();
+        Gauge.builder(REVOKED_METRIC, revokedTokens, Map::size).register(meterRegistry);
+    }
+
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        filter.put(tokenId);
+    }
+
+    public void revokeAllForProfessor(Long professorId) {
+        notBefore.put(professorId, clock.instant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public boolean isRevoked(String tokenId, Long professorId, Instant issuedAt) {
+        if (tokenId != null && filter.mightContain(tokenId) && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (professorId == null || notBefore.isEmpty()) {
+            return false;
+        }
+        Instant cutoff = notBefore.get(professorId);
+        return cutoff != null && (issuedAt == null || !issuedAt.isAfter(cutoff));
+    }
+
+    @Scheduled(fixedDelayString = "${classroom.security.revocation.sweep-interval:PT5M}")
+    public void sweepExpired() {
+        Instant now = clock.instant();
+        boolean removed = revokedTokens.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+        notBefore.values().removeIf(cutoff -> !now.isBefore(cutoff.plus(JwtTokenService.ACCESS_TOKEN_TTL)));
+
+        if (removed) {
+            RevocationBloomFilter rebuilt = newFilter();
+            revokedTokens.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+            // Second pass picks up revocations that raced with the rebuild and landed in the old filter.
+            revokedTokens.keySet().forEach(rebuilt::put);
+        }
+    }
+
+    private RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+    }
+}
@@ -2,9 +2,13 @@ package br.edu.infnet.classroomapi.infrastructure.security.services;
 
 import br.edu.infnet.classroomapi.domain.entities.Professor;
 import br.edu.infnet.classroomapi.domain.repositories.ProfessorRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorCredentials;
+import br.edu.infnet.classroomapi.infrastructure.security.credentials.CredentialCache;
+import br.edu.infnet.classroomapi.infrastructure.security.refresh.RefreshTokenService;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,46 +16,85 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final ProfessorRepository professorRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final CredentialCache credentialCache;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenService jwtTokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthResponse login(String email, String password) {
-        Professor professor = professorRepository.findByEmail(email)
+        ProfessorCredentials credentials = credentialCache.findByEmail(email)
                 .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(password, professor.getPassword())) {
+        if (!passwordHashingService.matches(password, credentials.password())) {
             throw new BadCredentialsException("Invalid email or password");
         }
 
-        String accessToken = jwtTokenService.generateToken(professor);
-        String refreshToken = jwtTokenService.generateRefreshToken(professor);
+        if (passwordHashingService.upgradeEncoding(credentials.password())) {
+            credentialCache.updatePassword(credentials, passwordHashingService.encode(password));
+        }
 
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .tokenType("Bearer")
-                .expiresIn(28800)
-                .professor(ProfessorInfo.builder()
-                        .id(professor.getId())
-                        .name(professor.getName())
-                        .email(professor.getEmail())
-                        .role(professor.getRole())
-                        .build())
-                .build();
+        return issueTokens(ProfessorInfo.builder()
+                .id(credentials.id())
+                .name(credentials.name())
+                .email(credentials.email())
+                .role(credentials.role())
+                .build());
     }
 
-    public Professor register(String name, String email, String password) {
+    public AuthResponse register(String name, String email, String password) {
         if (professorRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("Email already exists");
         }
 
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashingService.encode(password);
         Professor professor = new Professor(name, email, encodedPassword);
 
-        return professorRepository.save(professor);
+        Professor savedProfessor = professorRepository.save(professor);
+        return issueTokens(ProfessorInfo.builder()
+                .id(savedProfessor.getId())
+                .name(savedProfessor.getName())
+                .email(savedProfessor.getEmail())
+                .role(savedProfessor.getRole())
+                .build());
     }
 
     public AuthResponse refreshToken(String refreshToken) {
-        return null;
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        String accessToken = jwtTokenService.generateToken(rotation.professor());
+
+        return authResponse(accessToken, rotation.refreshToken(), rotation.professor());
+    }
+
+    public void logout(Jwt accessToken, String refreshToken) {
+        if (accessToken != null && accessToken.getId() != null) {
+            tokenRevocationService.revokeToken(accessToken.getId(), accessToken.getExpiresAt());
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    public void revokeAllSessions(Long professorId) {
+        tokenRevocationService.revokeAllForProfessor(professorId);
+        refreshTokenService.revokeAllForProfessor(professorId);
+        credentialCache.invalidate(professorId);
+    }
+
+    private AuthResponse issueTokens(ProfessorInfo professorInfo) {
+        String accessToken = jwtTokenService.generateToken(professorInfo);
+        String refreshToken = refreshTokenService.issue(professorInfo);
+
+        return authResponse(accessToken, refreshToken, professorInfo);
+    }
+
+    private AuthResponse authResponse(String accessToken, String refreshToken, ProfessorInfo professor) {
+        return AuthResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .tokenType("Bearer")
+                .expiresIn(28800)
+                .professor(professor)
+                .build();
     }
 }
\ No newline at end of file
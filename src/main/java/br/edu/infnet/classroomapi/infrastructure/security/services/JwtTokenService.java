@@ -1,49 +1,55 @@
 package br.edu.infnet.classroomapi.infrastructure.security.services;
 
 import br.edu.infnet.classroomapi.domain.entities.Professor;
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.infrastructure.security.config.JwtProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class JwtTokenService {
 
+    public static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(8);
+
     private final JwtEncoder jwtEncoder;
+    private final JwtProperties jwtProperties;
 
     public String generateToken(Professor professor) {
-        Instant now = Instant.now();
-
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer("classroom-api")
-                .issuedAt(now)
-                .expiresAt(now.plus(8, ChronoUnit.HOURS))
-                .subject(professor.getEmail())
-                .claim("professorId", professor.getId())
-                .claim("name", professor.getName())
-                .claim("roles", professor.getRole().name())
-                .build();
+        return generateToken(professor.getId(), professor.getEmail(), professor.getName(), professor.getRole());
+    }
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    public String generateToken(ProfessorInfo professor) {
+        return generateToken(professor.getId(), professor.getEmail(), professor.getName(), professor.getRole());
     }
 
-    public String generateRefreshToken(Professor professor) {
+    private String generateToken(Long professorId, String email, String name, UserRole role) {
         Instant now = Instant.now();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("classroom-api")
                 .issuedAt(now)
-                .expiresAt(now.plus(7, ChronoUnit.DAYS))
-                .subject(professor.getEmail())
-                .claim("professorId", professor.getId())
-                .claim("type", "refresh")
+                .expiresAt(now.plus(ACCESS_TOKEN_TTL))
+                .id(UUID.randomUUID().toString())
+                .subject(email)
+                .claim("professorId", professorId)
+                .claim("name", name)
+                .claim("roles", role.name())
                 .build();
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return encode(claims);
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        JwsHeader header = JwsHeader.with(jwtProperties.getAlgorithm().getSignatureAlgorithm()).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
     }
-}
\ No newline at end of file
+}
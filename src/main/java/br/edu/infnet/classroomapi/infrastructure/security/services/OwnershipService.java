@@ -0,0 +1,84 @@
+package br.edu.infnet.classroomapi.infrastructure.security.services;
+
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectOwner;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class OwnershipService {
+
+    public static final String LOOKUPS_METRIC = "classroom.ownership.lookups";
+    public static final String SIZE_METRIC = "classroom.ownership.subjects";
+
+    private final SubjectJpaRepository subjectRepository;
+    private final EnrollmentJpaRepository enrollmentRepository;
+    private final Map<Long, Long> subjectOwners = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public OwnershipService(SubjectJpaRepository subjectRepository, EnrollmentJpaRepository enrollmentRepository,
+                            MeterRegistry meterRegistry) {
+        this.subjectRepository = subjectRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.hits = Counter.builder(LOOKUPS_METRIC).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(LOOKUPS_METRIC).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, subjectOwners, Map::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (SubjectOwner owner : subjectRepository.findAllOwners()) {
+            subjectOwners.put(owner.getSubjectId(), owner.getProfessorId());
+        }
+        log.info("Ownership map warmed with {} subjects", subjectOwners.size());
+    }
+
+    public boolean ownsSubject(Long professorId, Long subjectId) {
+        if (professorId == null || subjectId == null) {
+            return false;
+        }
+
+        Long owner = subjectOwners.get(subjectId);
+        if (owner != null) {
+            hits.increment();
+            return owner.equals(professorId);
+        }
+
+        misses.increment();
+        boolean owns = subjectRepository.existsByIdAndProfessorId(subjectId, professorId);
+        if (owns) {
+            subjectOwners.put(subjectId, professorId);
+        }
+        return owns;
+    }
+
+    public boolean ownsEnrollment(Long professorId, Long enrollmentId) {
+        if (professorId == null || enrollmentId == null) {
+            return false;
+        }
+        return enrollmentRepository.existsByIdAndSubjectProfessorId(enrollmentId, professorId);
+    }
+
+    public void subjectSaved(Long subjectId, Long professorId) {
+        subjectOwners.put(subjectId, professorId);
+    }
+
+    public void subjectDeleted(Long subjectId) {
+        subjectOwners.remove(subjectId);
+    }
+
+    public void professorDeleted(Long professorId) {
+        subjectOwners.values().removeIf(professorId::equals);
+    }
+}
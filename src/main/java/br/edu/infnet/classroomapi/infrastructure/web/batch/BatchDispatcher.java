@@ -0,0 +1,300 @@
+package br.edu.infnet.classroomapi.infrastructure.web.batch;
+
+import br.edu.infnet.classroomapi.application.dto.request.BatchOperationRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.request.BatchRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchOperationResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchResponseDTO;
+import br.edu.infnet.classroomapi.application.fields.FieldSelection;
+import br.edu.infnet.classroomapi.application.fields.FieldSelectionHolder;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.DatabaseAdmissionFilter;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.FanOutExecutor;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.SqlStatementStatistics;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.SqlStatementStatisticsHolder;
+import br.edu.infnet.classroomapi.infrastructure.web.config.BatchProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.GlobalExceptionHandler;
+import br.edu.infnet.classroomapi.infrastructure.web.fields.FieldSelectionFilter;
+import br.edu.infnet.classroomapi.infrastructure.web.idempotency.IdempotencyFilter;
+import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executes the requests of a batch against the regular controllers, in the caller's security
+ * context. Consecutive GETs run concurrently on the fan-out executor, bounded by
+ * {@code classroom.batch.max-concurrency}; any other method waits for the GETs before it and
+ * runs alone, so writes observe the batch in order. When the {@link DatabaseAdmissionFilter} is
+ * active, the batch runs its GETs only as wide as the extra admission permits it can take on top
+ * of the one the batch request holds, so a batch never uses more connections than it was admitted
+ * for. Every sub-request is checked against the HTTP security rules before it is dispatched, since
+ * it does not pass through the filter chain. For the same reason sub-requests carrying an
+ * {@code Idempotency-Key} are rejected: the key belongs on the batch request itself, which the
+ * {@link IdempotencyFilter} replays as a whole.
+ */
+@Slf4j
+@Component
+public class BatchDispatcher {
+
+    private static final String API_PREFIX = "/api";
+    private static final String BATCH_PATH = "/api/v1/batch";
+
+    private final WebApplicationContext applicationContext;
+    private final FanOutExecutor fanOutExecutor;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final ObjectMapper objectMapper;
+    private final BatchProperties properties;
+    private final ObjectProvider<DatabaseAdmissionFilter> admissionFilter;
+
+    private volatile DispatcherServlet dispatcherServlet;
+
+    public BatchDispatcher(WebApplicationContext applicationContext, FanOutExecutor fanOutExecutor,
+                           WebInvocationPrivilegeEvaluator privilegeEvaluator, ObjectMapper objectMapper,
+                           BatchProperties properties, ObjectProvider<DatabaseAdmissionFilter> admissionFilter) {
+        this.applicationContext = applicationContext;
+        this.fanOutExecutor = fanOutExecutor;
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.admissionFilter = admissionFilter;
+    }
+
+    public BatchResponseDTO execute(BatchRequestDTO batch, HttpServletRequest request, HttpServletResponse response) {
+        List<BatchOperationRequestDTO> operations = batch.getRequests();
+        if (operations.size() > properties.getMaxRequests()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxRequests() + " requests can be batched at once");
+        }
+
+        DispatcherServlet servlet = dispatcherServlet(request.getServletContext());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        int extraWidth = Math.max(1, properties.getMaxConcurrency()) - 1;
+        DatabaseAdmissionFilter admission = admissionFilter.getIfAvailable();
+        int admitted = admission != null ? admission.tryAcquireExtra(extraWidth) : extraWidth;
+        Semaphore permits = new Semaphore(1 + admitted);
+
+        List<BatchOperationResponseDTO> responses = new ArrayList<>(operations.size());
+        List<CompletableFuture<BatchOperationResponseDTO>> concurrent = new ArrayList<>();
+        try {
+            for (BatchOperationRequestDTO operation : operations) {
+                if (HttpMethod.GET.matches(operation.getMethod().toUpperCase(Locale.ROOT))) {
+                    concurrent.add(fanOutExecutor.supply(
+                            () -> dispatchWithPermit(permits, servlet, operation, request, response, authentication)));
+                } else {
+                    awaitAll(concurrent, responses);
+                    responses.add(fanOutExecutor.supply(
+                            () -> dispatch(servlet, operation, request, response, authentication)).join());
+                }
+            }
+            awaitAll(concurrent, responses);
+        } finally {
+            if (admission != null) {
+                admission.releaseExtra(admitted);
+            }
+        }
+
+        return BatchResponseDTO.builder()
+                .responses(responses)
+                .build();
+    }
+
+    private static void awaitAll(List<CompletableFuture<BatchOperationResponseDTO>> futures,
+                                 List<BatchOperationResponseDTO> responses) {
+        futures.forEach(future -> responses.add(future.join()));
+        futures.clear();
+    }
+
+    private BatchOperationResponseDTO dispatchWithPermit(Semaphore permits, DispatcherServlet servlet,
+                                                         BatchOperationRequestDTO operation, HttpServletRequest request,
+                                                         HttpServletResponse response, Authentication authentication) {
+        permits.acquireUninterruptibly();
+        try {
+            return dispatch(servlet, operation, request, response, authentication);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private BatchOperationResponseDTO dispatch(DispatcherServlet servlet, BatchOperationRequestDTO operation,
+                                               HttpServletRequest request, HttpServletResponse response,
+                                               Authentication authentication) {
+        String method = operation.getMethod().toUpperCase(Locale.ROOT);
+        String path = operation.getPath().startsWith(API_PREFIX + "/") ? operation.getPath() : API_PREFIX + operation.getPath();
+        BatchSubRequest subRequest = new BatchSubRequest(request, method, path, requestHeaders(operation), requestBody(operation));
+
+        if (subRequest.getServletPath().startsWith(BATCH_PATH)) {
+            return error(operation, HttpStatus.BAD_REQUEST, "Batch requests cannot be nested");
+        }
+        if (subRequest.getHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER) != null) {
+            return error(operation, HttpStatus.BAD_REQUEST,
+                    IdempotencyFilter.IDEMPOTENCY_KEY_HEADER + " is only honoured on the batch request itself");
+        }
+        if (!privilegeEvaluator.isAllowed(request.getContextPath(), subRequest.getServletPath(), method, authentication)) {
+            return error(operation, HttpStatus.FORBIDDEN, "Access denied");
+        }
+
+        BatchSubResponse subResponse = new BatchSubResponse(response);
+        String fields = subRequest.getParameter(FieldSelectionFilter.FIELDS_PARAMETER);
+        if (fields != null) {
+            FieldSelectionHolder.set(FieldSelection.parse(fields));
+        }
+        SqlStatementStatistics statistics = SqlStatementStatisticsHolder.start();
+        try {
+            servlet.service(subRequest, subResponse);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            log.warn("Batch sub-request {} {} failed", method, path, ex);
+            return error(operation, HttpStatus.INTERNAL_SERVER_ERROR,
+                    GlobalExceptionHandler.UNEXPECTED_ERROR_MESSAGE);
+        } finally {
+            SqlStatementStatisticsHolder.finish(statistics);
+            if (fields != null) {
+                FieldSelectionHolder.clear();
+            }
+        }
+        return toResponse(operation, subResponse);
+    }
+
+    private BatchOperationResponseDTO toResponse(BatchOperationRequestDTO operation, BatchSubResponse subResponse) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        subResponse.getCapturedHeaders().forEach((name, values) -> headers.put(name, String.join(", ", values)));
+
+        byte[] content = subResponse.getContentAsByteArray();
+        JsonNode body;
+        if (content.length > 0) {
+            body = readBody(content);
+        } else if (subResponse.getStatus() >= 400) {
+            HttpStatus status = HttpStatus.resolve(subResponse.getStatus());
+            String code = status != null ? status.name() : "HTTP_" + subResponse.getStatus();
+            String message = subResponse.getErrorMessage() != null ? subResponse.getErrorMessage()
+                    : status != null ? status.getReasonPhrase() : null;
+            body = objectMapper.valueToTree(ApiResponse.error(code, message));
+        } else {
+            body = null;
+        }
+
+        return BatchOperationResponseDTO.builder()
+                .id(operation.getId())
+                .status(subResponse.getStatus())
+                .headers(headers)
+                .body(body)
+                .build();
+    }
+
+    private BatchOperationResponseDTO error(BatchOperationRequestDTO operation, HttpStatus status, String message) {
+        return BatchOperationResponseDTO.builder()
+                .id(operation.getId())
+                .status(status.value())
+                .headers(Collections.emptyMap())
+                .body(objectMapper.valueToTree(ApiResponse.error(status.name(), message)))
+                .build();
+    }
+
+    private JsonNode readBody(byte[] content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (IOException ex) {
+            return TextNode.valueOf(new String(content, StandardCharsets.UTF_8));
+        }
+    }
+
+    private HttpHeaders requestHeaders(BatchOperationRequestDTO operation) {
+        HttpHeaders headers = new HttpHeaders();
+        if (operation.getHeaders() != null) {
+            operation.getHeaders().forEach(headers::set);
+        }
+        if (!headers.containsKey(HttpHeaders.ACCEPT)) {
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        }
+        if (operation.getBody() != null && !headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        return headers;
+    }
+
+    private byte[] requestBody(BatchOperationRequestDTO operation) {
+        if (operation.getBody() == null) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(operation.getBody());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid body for batch request " + operation.getId(), ex);
+        }
+    }
+
+    /**
+     * A dispatcher of its own, sharing the application's handler mappings and adapters, so the
+     * batch works the same whether or not the main dispatcher has been initialized.
+     */
+    private DispatcherServlet dispatcherServlet(ServletContext servletContext) {
+        DispatcherServlet servlet = dispatcherServlet;
+        if (servlet != null) {
+            return servlet;
+        }
+        synchronized (this) {
+            if (dispatcherServlet == null) {
+                DispatcherServlet created = new DispatcherServlet(applicationContext);
+                created.setPublishContext(false);
+                try {
+                    created.init(servletConfig(servletContext));
+                } catch (ServletException ex) {
+                    throw new IllegalStateException("Could not initialize the batch dispatcher", ex);
+                }
+                dispatcherServlet = created;
+            }
+            return dispatcherServlet;
+        }
+    }
+
+    private static ServletConfig servletConfig(ServletContext servletContext) {
+        return new ServletConfig() {
+            @Override
+            public String getServletName() {
+                return "batch";
+            }
+
+            @Override
+            public ServletContext getServletContext() {
+                return servletContext;
+            }
+
+            @Override
+            public String getInitParameter(String name) {
+                return null;
+            }
+
+            @Override
+            public Enumeration<String> getInitParameterNames() {
+                return Collections.emptyEnumeration();
+            }
+        };
+    }
+}
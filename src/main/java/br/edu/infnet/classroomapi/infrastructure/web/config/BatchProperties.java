@@ -0,0 +1,12 @@
+package br.edu.infnet.classroomapi.infrastructure.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.batch")
+public class BatchProperties {
+
+    private int maxRequests = 20;
+    private int maxConcurrency = 4;
+}
@@ -0,0 +1,19 @@
+package br.edu.infnet.classroomapi.infrastructure.web.config;
+
+import br.edu.infnet.classroomapi.infrastructure.web.idempotency.IdempotencyStore;
+import br.edu.infnet.classroomapi.infrastructure.web.idempotency.InMemoryIdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(IdempotencyStore.class)
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.getMaxEntries());
+    }
+}
@@ -0,0 +1,16 @@
+package br.edu.infnet.classroomapi.infrastructure.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "classroom.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private Duration timeToLive = Duration.ofHours(24);
+    private int maxEntries = 10_000;
+    private Duration sweepInterval = Duration.ofMinutes(5);
+}
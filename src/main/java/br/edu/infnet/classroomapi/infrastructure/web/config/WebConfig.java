@@ -1,11 +1,13 @@
 package br.edu.infnet.classroomapi.infrastructure.web.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(BatchProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Override
@@ -2,23 +2,34 @@ package br.edu.infnet.classroomapi.infrastructure.web.controllers;
 
 import br.edu.infnet.classroomapi.application.dto.request.CreateProfessorRequestDTO;
 import br.edu.infnet.classroomapi.application.dto.request.LoginRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.request.RefreshTokenRequestDTO;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtKeyRing;
 import br.edu.infnet.classroomapi.infrastructure.security.services.AuthResponse;
 import br.edu.infnet.classroomapi.infrastructure.security.services.AuthService;
 import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/v1/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtKeyRing jwtKeyRing;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequestDTO request) {
@@ -29,10 +40,37 @@ public class AuthController {
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody CreateProfessorRequestDTO request) {
-        authService.register(request.getName(), request.getEmail(), request.getPassword());
-
-        AuthResponse authResponse = authService.login(request.getEmail(), request.getPassword());
+        AuthResponse authResponse = authService.register(request.getName(), request.getEmail(), request.getPassword());
         ApiResponse<AuthResponse> response = ApiResponse.success(authResponse, "Registration successful");
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequestDTO request) {
+        AuthResponse authResponse = authService.refreshToken(request.getRefreshToken());
+        ApiResponse<AuthResponse> response = ApiResponse.success(authResponse, "Token refreshed");
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal Jwt jwt,
+                                                    @RequestBody(required = false) RefreshTokenRequestDTO request) {
+        authService.logout(jwt, request != null ? request.getRefreshToken() : null);
+        ApiResponse<Void> response = ApiResponse.success(null, "Logout successful");
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/professors/{professorId}/revoke")
+    public ResponseEntity<ApiResponse<Void>> revokeAllSessions(@PathVariable Long professorId) {
+        authService.revokeAllSessions(professorId);
+        ApiResponse<Void> response = ApiResponse.success(null, "All sessions revoked");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyRing.toPublicJson());
+    }
 }
\ No newline at end of file
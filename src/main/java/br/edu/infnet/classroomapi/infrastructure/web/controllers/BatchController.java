@@ -0,0 +1,32 @@
+package br.edu.infnet.classroomapi.infrastructure.web.controllers;
+
+import br.edu.infnet.classroomapi.application.dto.request.BatchRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchResponseDTO;
+import br.edu.infnet.classroomapi.infrastructure.web.batch.BatchDispatcher;
+import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchDispatcher batchDispatcher;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<BatchResponseDTO>> executeBatch(@Valid @RequestBody BatchRequestDTO request,
+                                                                      HttpServletRequest servletRequest,
+                                                                      HttpServletResponse servletResponse) {
+        BatchResponseDTO batchResponse = batchDispatcher.execute(request, servletRequest, servletResponse);
+        ApiResponse<BatchResponseDTO> response = ApiResponse.success(batchResponse);
+        return ResponseEntity.ok(response);
+    }
+}
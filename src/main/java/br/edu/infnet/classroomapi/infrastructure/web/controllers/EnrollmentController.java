@@ -1,16 +1,22 @@
 package br.edu.infnet.classroomapi.infrastructure.web.controllers;
 
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
 import br.edu.infnet.classroomapi.application.dto.request.AssignGradeRequestDTO;
 import br.edu.infnet.classroomapi.application.dto.request.CreateEnrollmentRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
 import br.edu.infnet.classroomapi.application.dto.response.EnrollmentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.NormalizedEnrollmentListDTO;
 import br.edu.infnet.classroomapi.application.services.EnrollmentApplicationService;
 import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+import br.edu.infnet.classroomapi.infrastructure.web.etag.ETags;
 import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,6 +25,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EnrollmentController {
 
+    private static final String ETAG_RESOURCE = "enrollment";
+    private static final String MY_SUBJECTS_COLLECTION = "my-subject-enrollments";
+    private static final String SUBJECT_COLLECTION = "subject-enrollments";
+    private static final String NORMALIZED_VIEW = "view=normalized";
+
     private final EnrollmentApplicationService enrollmentService;
 
     @PostMapping
@@ -38,10 +49,15 @@ public class EnrollmentController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EnrollmentResponseDTO>> getEnrollmentById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<EnrollmentResponseDTO>> getEnrollmentById(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersion version = enrollmentService.findVersionById(id).orElse(null);
+        if (ETags.isNotModified(webRequest, ETAG_RESOURCE, id, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         EnrollmentResponseDTO enrollmentResponse = enrollmentService.findById(id);
         ApiResponse<EnrollmentResponseDTO> response = ApiResponse.success(enrollmentResponse);
-        return ResponseEntity.ok(response);
+        return ETags.ok(ETAG_RESOURCE, id, version).body(response);
     }
 
     @GetMapping
@@ -51,6 +67,20 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<BatchLookupDTO<EnrollmentResponseDTO>>> getEnrollmentsByIds(@RequestParam List<Long> ids) {
+        BatchLookupDTO<EnrollmentResponseDTO> enrollmentsResponse = enrollmentService.findByIds(ids);
+        ApiResponse<BatchLookupDTO<EnrollmentResponseDTO>> response = ApiResponse.success(enrollmentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {NORMALIZED_VIEW, "!ids"})
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getAllEnrollmentsNormalized() {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findAllNormalized();
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/student/{studentId}")
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsByStudent(@PathVariable Long studentId) {
         List<EnrollmentResponseDTO> enrollmentsResponse = enrollmentService.findByStudentId(studentId);
@@ -58,17 +88,49 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/student/{studentId}", params = NORMALIZED_VIEW)
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getEnrollmentsByStudentNormalized(@PathVariable Long studentId) {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findByStudentIdNormalized(studentId);
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/subject/{subjectId}")
-    public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsBySubject(@PathVariable Long subjectId) {
+    public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsBySubject(@PathVariable Long subjectId,
+                                                                                          WebRequest webRequest) {
+        ChangeVersion version = enrollmentService.findSubjectVersion(subjectId);
+        if (ETags.isNotModified(webRequest, SUBJECT_COLLECTION, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<EnrollmentResponseDTO> enrollmentsResponse = enrollmentService.findBySubjectId(subjectId);
         ApiResponse<List<EnrollmentResponseDTO>> response = ApiResponse.success(enrollmentsResponse);
+        return ETags.ok(SUBJECT_COLLECTION, version).body(response);
+    }
+
+    @GetMapping(value = "/subject/{subjectId}", params = NORMALIZED_VIEW)
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getEnrollmentsBySubjectNormalized(@PathVariable Long subjectId) {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findBySubjectIdNormalized(subjectId);
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/my-subjects")
-    public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsForMySubjects() {
+    public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsForMySubjects(WebRequest webRequest) {
+        ChangeVersion version = enrollmentService.findCurrentProfessorVersion();
+        if (ETags.isNotModified(webRequest, MY_SUBJECTS_COLLECTION, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<EnrollmentResponseDTO> enrollmentsResponse = enrollmentService.findByCurrentProfessorSubjects();
         ApiResponse<List<EnrollmentResponseDTO>> response = ApiResponse.success(enrollmentsResponse);
+        return ETags.ok(MY_SUBJECTS_COLLECTION, version).body(response);
+    }
+
+    @GetMapping(value = "/my-subjects", params = NORMALIZED_VIEW)
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getEnrollmentsForMySubjectsNormalized() {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findByCurrentProfessorSubjectsNormalized();
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
         return ResponseEntity.ok(response);
     }
 
@@ -79,6 +141,13 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/status/{status}", params = NORMALIZED_VIEW)
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getEnrollmentsByStatusNormalized(@PathVariable EnrollmentStatus status) {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findByStatusNormalized(status);
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/subject/{subjectId}/approved")
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getApprovedEnrollments(@PathVariable Long subjectId) {
         List<EnrollmentResponseDTO> enrollmentsResponse = enrollmentService.findApprovedBySubjectId(subjectId);
@@ -86,6 +155,13 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/subject/{subjectId}/approved", params = NORMALIZED_VIEW)
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getApprovedEnrollmentsNormalized(@PathVariable Long subjectId) {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findApprovedBySubjectIdNormalized(subjectId);
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/subject/{subjectId}/reproved")
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getReprovedEnrollments(@PathVariable Long subjectId) {
         List<EnrollmentResponseDTO> enrollmentsResponse = enrollmentService.findReprobedBySubjectId(subjectId);
@@ -93,6 +169,13 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/subject/{subjectId}/reproved", params = NORMALIZED_VIEW)
+    public ResponseEntity<ApiResponse<NormalizedEnrollmentListDTO>> getReprovedEnrollmentsNormalized(@PathVariable Long subjectId) {
+        NormalizedEnrollmentListDTO enrollmentsResponse = enrollmentService.findReprobedBySubjectIdNormalized(subjectId);
+        ApiResponse<NormalizedEnrollmentListDTO> response = ApiResponse.success(enrollmentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/suspend")
     public ResponseEntity<ApiResponse<EnrollmentResponseDTO>> suspendEnrollment(@PathVariable Long id) {
         EnrollmentResponseDTO enrollmentResponse = enrollmentService.suspendEnrollment(id);
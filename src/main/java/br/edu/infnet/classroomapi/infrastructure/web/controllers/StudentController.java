@@ -1,15 +1,18 @@
 package br.edu.infnet.classroomapi.infrastructure.web.controllers;
 
 import br.edu.infnet.classroomapi.application.dto.request.CreateStudentRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
 import br.edu.infnet.classroomapi.application.dto.response.StudentResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.StudentSummaryDTO;
 import br.edu.infnet.classroomapi.application.services.StudentApplicationService;
+import br.edu.infnet.classroomapi.infrastructure.web.etag.ETags;
 import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StudentController {
 
+    private static final String ETAG_RESOURCE = "student";
+
     private final StudentApplicationService studentService;
 
     @PostMapping
@@ -28,10 +33,14 @@ public class StudentController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<StudentResponseDTO>> getStudentById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<StudentResponseDTO>> getStudentById(@PathVariable Long id, WebRequest webRequest) {
+        if (ETags.isNotModified(webRequest, ETAG_RESOURCE, id, () -> studentService.findUpdatedAtById(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         StudentResponseDTO studentResponse = studentService.findById(id);
         ApiResponse<StudentResponseDTO> response = ApiResponse.success(studentResponse);
-        return ResponseEntity.ok(response);
+        return ETags.ok(ETAG_RESOURCE, id, studentResponse.getUpdatedAt()).body(response);
     }
 
     @GetMapping("/cpf/{cpf}")
@@ -55,6 +64,13 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<BatchLookupDTO<StudentResponseDTO>>> getStudentsByIds(@RequestParam List<Long> ids) {
+        BatchLookupDTO<StudentResponseDTO> studentsResponse = studentService.findByIds(ids);
+        ApiResponse<BatchLookupDTO<StudentResponseDTO>> response = ApiResponse.success(studentsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<List<StudentSummaryDTO>>> getStudentsSummary() {
         List<StudentSummaryDTO> summaryResponse = studentService.findAllSummary();
@@ -1,15 +1,20 @@
 package br.edu.infnet.classroomapi.infrastructure.web.controllers;
 
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
 import br.edu.infnet.classroomapi.application.dto.request.CreateSubjectRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.BatchLookupDTO;
 import br.edu.infnet.classroomapi.application.dto.response.SubjectResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.SubjectSummaryDTO;
 import br.edu.infnet.classroomapi.application.services.SubjectApplicationService;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+import br.edu.infnet.classroomapi.infrastructure.web.etag.ETags;
 import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +23,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SubjectController {
 
+    private static final String ETAG_RESOURCE = "subject";
+    private static final String MY_SUBJECTS_COLLECTION = "my-subjects";
+
     private final SubjectApplicationService subjectService;
 
     @PostMapping
@@ -28,10 +36,15 @@ public class SubjectController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<SubjectResponseDTO>> getSubjectById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<SubjectResponseDTO>> getSubjectById(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersion version = subjectService.findVersionById(id).orElse(null);
+        if (ETags.isNotModified(webRequest, ETAG_RESOURCE, id, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         SubjectResponseDTO subjectResponse = subjectService.findById(id);
         ApiResponse<SubjectResponseDTO> response = ApiResponse.success(subjectResponse);
-        return ResponseEntity.ok(response);
+        return ETags.ok(ETAG_RESOURCE, id, version).body(response);
     }
 
     @GetMapping("/code/{code}")
@@ -48,6 +61,13 @@ public class SubjectController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<BatchLookupDTO<SubjectResponseDTO>>> getSubjectsByIds(@RequestParam List<Long> ids) {
+        BatchLookupDTO<SubjectResponseDTO> subjectsResponse = subjectService.findByIds(ids);
+        ApiResponse<BatchLookupDTO<SubjectResponseDTO>> response = ApiResponse.success(subjectsResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<List<SubjectSummaryDTO>>> getSubjectsSummary() {
         List<SubjectSummaryDTO> summaryResponse = subjectService.findAllSummary();
@@ -56,10 +76,15 @@ public class SubjectController {
     }
 
     @GetMapping("/my-subjects")
-    public ResponseEntity<ApiResponse<List<SubjectResponseDTO>>> getMySubjects() {
+    public ResponseEntity<ApiResponse<List<SubjectResponseDTO>>> getMySubjects(WebRequest webRequest) {
+        ChangeVersion version = subjectService.findCurrentProfessorVersion();
+        if (ETags.isNotModified(webRequest, MY_SUBJECTS_COLLECTION, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<SubjectResponseDTO> subjectsResponse = subjectService.findByCurrentProfessor();
         ApiResponse<List<SubjectResponseDTO>> response = ApiResponse.success(subjectsResponse);
-        return ResponseEntity.ok(response);
+        return ETags.ok(MY_SUBJECTS_COLLECTION, version).body(response);
     }
 
     @GetMapping("/professor/{professorId}")
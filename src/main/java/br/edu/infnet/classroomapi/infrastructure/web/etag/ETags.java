@@ -0,0 +1,93 @@
+package br.edu.infnet.classroomapi.infrastructure.web.etag;
+
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@UtilityClass
+public class ETags {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static String of(String resource, Long id, LocalDateTime updatedAt) {
+        long micros = ChronoUnit.MICROS.between(EPOCH, updatedAt);
+        return "\"" + resource + "-" + id + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    /**
+     * Answers If-None-Match from the resource's last update time alone, so an unchanged
+     * resource is never loaded or mapped. The lookup only runs when the header is present.
+     */
+    public static boolean isNotModified(WebRequest request, String resource, Long id,
+                                        Supplier<Optional<LocalDateTime>> updatedAtLookup) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        return updatedAtLookup.get()
+                .map(updatedAt -> request.checkNotModified(of(resource, id, updatedAt)))
+                .orElse(false);
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String resource, Long id, LocalDateTime updatedAt) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        return updatedAt != null ? builder.eTag(of(resource, id, updatedAt)) : builder;
+    }
+
+    public static String of(String resource, Long id, ResourceVersion version) {
+        return tag(resource + "-" + id, version);
+    }
+
+    /**
+     * Answers If-None-Match for a resource whose representation embeds other rows or derived
+     * values. The caller looks the version up before loading the body and tags the body with that
+     * same version, so a change landing in between yields a stale tag rather than a stale body.
+     */
+    public static boolean isNotModified(WebRequest request, String resource, Long id, ResourceVersion version) {
+        return version != null && request.checkNotModified(of(resource, id, version));
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String resource, Long id, ResourceVersion version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        return version != null ? builder.eTag(of(resource, id, version)) : builder;
+    }
+
+    /**
+     * Collection tags come from the database version of every row the collection embeds, so
+     * every node derives the same tag and a restart does not invalidate clients' caches.
+     */
+    public static String of(String collection, ChangeVersion version) {
+        return tag(collection + "-" + version.scope(), version.version());
+    }
+
+    public static boolean isNotModified(WebRequest request, String collection, ChangeVersion version) {
+        LocalDateTime updatedAt = version.version().updatedAt();
+        return updatedAt != null
+                ? request.checkNotModified(of(collection, version), toInstant(updatedAt).toEpochMilli())
+                : request.checkNotModified(of(collection, version));
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String collection, ChangeVersion version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(of(collection, version));
+        LocalDateTime updatedAt = version.version().updatedAt();
+        return updatedAt != null ? builder.lastModified(toInstant(updatedAt)) : builder;
+    }
+
+    private static String tag(String prefix, ResourceVersion version) {
+        long micros = version.updatedAt() != null ? ChronoUnit.MICROS.between(EPOCH, version.updatedAt()) : 0L;
+        return "\"" + prefix + "-" + Long.toHexString(micros) + "-" + Long.toHexString(version.revision()) + "\"";
+    }
+
+    private static Instant toInstant(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -1,7 +1,9 @@
 package br.edu.infnet.classroomapi.infrastructure.web.exception;
 
+import br.edu.infnet.classroomapi.domain.validators.DomainValidationException;
 import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
 import br.edu.infnet.classroomapi.infrastructure.web.response.ErrorData;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,12 +12,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    public static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred";
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Void>> handleRuntimeException(RuntimeException ex) {
         ApiResponse<Void> response = ApiResponse.error("INTERNAL_ERROR", ex.getMessage());
@@ -28,6 +33,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(DomainValidationException.class)
+    public ResponseEntity<ApiResponse<List<String>>> handleDomainValidationException(DomainValidationException ex) {
+        ErrorData errorData = new ErrorData("VALIDATION_ERROR", "Invalid input data");
+        ApiResponse<List<String>> response = new ApiResponse<>(false, ex.getViolations(), errorData, null);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> validationErrors = ex.getBindingResult()
@@ -75,9 +88,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(SubjectFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSubjectFullException(SubjectFullException ex) {
+        ApiResponse<Void> response = ApiResponse.error("SUBJECT_FULL", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ApiResponse<Void> response = ApiResponse.error("SERVICE_UNAVAILABLE", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception ex) {
-        ApiResponse<Void> response = ApiResponse.error("INTERNAL_ERROR", "An unexpected error occurred");
+        ApiResponse<Void> response = ApiResponse.error("INTERNAL_ERROR", UNEXPECTED_ERROR_MESSAGE);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package br.edu.infnet.classroomapi.infrastructure.web.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
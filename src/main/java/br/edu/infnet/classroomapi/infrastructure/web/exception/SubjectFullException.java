@@ -0,0 +1,8 @@
+package br.edu.infnet.classroomapi.infrastructure.web.exception;
+
+public class SubjectFullException extends RuntimeException {
+
+    public SubjectFullException(String message) {
+        super(message);
+    }
+}
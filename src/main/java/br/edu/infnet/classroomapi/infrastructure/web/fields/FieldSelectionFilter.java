@@ -0,0 +1,43 @@
+package br.edu.infnet.classroomapi.infrastructure.web.fields;
+
+import br.edu.infnet.classroomapi.application.fields.FieldSelection;
+import br.edu.infnet.classroomapi.application.fields.FieldSelectionHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class FieldSelectionFilter extends OncePerRequestFilter {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String fields = request.getParameter(FIELDS_PARAMETER);
+        if (fields == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        FieldSelectionHolder.set(FieldSelection.parse(fields));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            FieldSelectionHolder.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+}
@@ -0,0 +1,39 @@
+package br.edu.infnet.classroomapi.infrastructure.web.fields;
+
+import br.edu.infnet.classroomapi.application.dto.response.AddressResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.EnrollmentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.ProfessorResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.StudentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.StudentSummaryDTO;
+import br.edu.infnet.classroomapi.application.dto.response.SubjectResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.SubjectSummaryDTO;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class FieldSelectionJacksonConfig {
+
+    private static final List<Class<?>> FILTERED_TYPES = List.of(
+            EnrollmentResponseDTO.class, StudentResponseDTO.class, StudentSummaryDTO.class,
+            SubjectResponseDTO.class, SubjectSummaryDTO.class, ProfessorResponseDTO.class, AddressResponseDTO.class);
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionCustomizer() {
+        return builder -> {
+            FILTERED_TYPES.forEach(type -> builder.mixIn(type, FieldSelectionMixIn.class));
+            builder.filters(new SimpleFilterProvider()
+                    .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                    .setFailOnUnknownId(false));
+        };
+    }
+
+    @JsonFilter(FieldSelectionPropertyFilter.FILTER_ID)
+    interface FieldSelectionMixIn {
+    }
+}
@@ -0,0 +1,50 @@
+package br.edu.infnet.classroomapi.infrastructure.web.fields;
+
+import br.edu.infnet.classroomapi.application.fields.FieldSelection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+class FieldSelectionPropertyFilter extends SimpleBeanPropertyFilter {
+
+    static final String FILTER_ID = "fieldSelection";
+
+    private final FieldSelection selection;
+    private final String root;
+
+    FieldSelectionPropertyFilter(FieldSelection selection, String root) {
+        this.selection = selection;
+        this.root = root;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        String path = path(generator.getOutputContext(), writer.getName());
+        if (path == null || selection.includes(path)) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+
+    private String path(JsonStreamContext context, String field) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (JsonStreamContext parent = context.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent.inObject() && parent.getCurrentName() != null) {
+                segments.addFirst(parent.getCurrentName());
+            }
+        }
+        if (segments.isEmpty() || !root.equals(segments.pollFirst())) {
+            return null;
+        }
+
+        segments.addLast(field);
+        return String.join(".", segments);
+    }
+}
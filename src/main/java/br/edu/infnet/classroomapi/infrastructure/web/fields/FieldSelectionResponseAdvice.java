@@ -0,0 +1,33 @@
+package br.edu.infnet.classroomapi.infrastructure.web.fields;
+
+import br.edu.infnet.classroomapi.application.fields.FieldSelection;
+import br.edu.infnet.classroomapi.application.fields.FieldSelectionHolder;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+@RestControllerAdvice
+public class FieldSelectionResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String DATA_FIELD = "data";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        FieldSelection selection = FieldSelectionHolder.current();
+        if (selection.isAll()) {
+            return;
+        }
+
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(FieldSelectionPropertyFilter.FILTER_ID, new FieldSelectionPropertyFilter(selection, DATA_FIELD))
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,190 @@
+package br.edu.infnet.classroomapi.infrastructure.web.idempotency;
+
+import br.edu.infnet.classroomapi.infrastructure.web.config.IdempotencyProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Makes POSTs that carry an {@code Idempotency-Key} safe to retry. The first request with a key
+ * runs normally and its response is stored; a retry with the same key and body gets the stored
+ * response back without reaching the controllers, a retry while the first is still running gets
+ * 409, and reusing a key for a different request gets 422. Keys are scoped to the caller, and
+ * 5xx responses are not stored so the client can try again.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "classroom.idempotency", name = "enabled", matchIfMissing = true)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String REQUESTS_METRIC = "classroom.idempotency.requests";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String AUTH_PATH = "/api/v1/auth/";
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.LOCATION, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !uri.startsWith("/api/")
+                || uri.startsWith(AUTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "BAD_REQUEST",
+                    IDEMPOTENCY_KEY_HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String scopedKey = principal() + ":" + key;
+        String fingerprint = fingerprint(cachedRequest);
+        Instant now = clock.instant();
+
+        Optional<IdempotencyRecord> existing = store.begin(scopedKey, fingerprint, now, now.plus(properties.getTimeToLive()));
+        if (existing.isPresent()) {
+            answerExisting(existing.get(), fingerprint, response);
+            return;
+        }
+
+        count("executed");
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                store.complete(scopedKey, snapshot(cachingResponse), clock.instant().plus(properties.getTimeToLive()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(scopedKey);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${classroom.idempotency.sweep-interval:PT5M}")
+    public void sweepExpired() {
+        int removed = store.removeExpired(clock.instant());
+        if (removed > 0) {
+            log.debug("Removed {} expired idempotency records", removed);
+        }
+    }
+
+    private void answerExisting(IdempotencyRecord record, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!record.fingerprint().equals(fingerprint)) {
+            count("mismatch");
+            reject(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        if (!record.isCompleted()) {
+            count("in_flight");
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            reject(response, HttpStatus.CONFLICT, "REQUEST_IN_PROGRESS",
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+            return;
+        }
+
+        count("replayed");
+        StoredResponse stored = record.response();
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(stored.body());
+    }
+
+    private StoredResponse snapshot(ContentCachingResponseWrapper response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (response.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+        }
+        for (String name : REPLAYED_HEADERS) {
+            if (response.containsHeader(name)) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return new StoredResponse(response.getStatus(), headers, response.getContentAsByteArray());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String code, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(code, message));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(REQUESTS_METRIC, "result", result).increment();
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.edu.infnet.classroomapi.infrastructure.web.idempotency;
+
+import java.time.Instant;
+
+public record IdempotencyRecord(String fingerprint, StoredResponse response, Instant expiresAt) {
+
+    public static IdempotencyRecord inFlight(String fingerprint, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, null, expiresAt);
+    }
+
+    public IdempotencyRecord complete(StoredResponse response, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, response, expiresAt);
+    }
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,23 @@
+package br.edu.infnet.classroomapi.infrastructure.web.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Records requests made with an {@code Idempotency-Key}. The default store keeps them in memory;
+ * multi-node deployments provide a shared implementation as a bean and it replaces the default.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims the key for a new request. Returns empty when the caller now owns the key, or the
+     * live record of an earlier request that is still in flight or already completed.
+     */
+    Optional<IdempotencyRecord> begin(String key, String fingerprint, Instant now, Instant expiresAt);
+
+    void complete(String key, StoredResponse response, Instant expiresAt);
+
+    void release(String key);
+
+    int removeExpired(Instant now);
+}
@@ -0,0 +1,117 @@
+package br.edu.infnet.classroomapi.infrastructure.web.idempotency;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+    /** Keys in claim order, each at most once; both collections are guarded by {@code insertionOrder}. */
+    private final Deque<String> insertionOrder = new ArrayDeque<>();
+    private final Set<String> queued = new HashSet<>();
+    private final int maxEntries;
+
+    public InMemoryIdempotencyStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> begin(String key, String fingerprint, Instant now, Instant expiresAt) {
+        IdempotencyRecord claimed = IdempotencyRecord.inFlight(fingerprint, expiresAt);
+        while (true) {
+            IdempotencyRecord existing = records.putIfAbsent(key, claimed);
+            if (existing == null) {
+                enqueue(key);
+                evictOverflow();
+                return Optional.empty();
+            }
+            if (!existing.isExpired(now)) {
+                return Optional.of(existing);
+            }
+            if (records.replace(key, existing, claimed)) {
+                enqueue(key);
+                return Optional.empty();
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Instant expiresAt) {
+        records.computeIfPresent(key, (k, record) -> record.complete(response, expiresAt));
+    }
+
+    @Override
+    public void release(String key) {
+        records.computeIfPresent(key, (k, record) -> record.isCompleted() ? record : null);
+    }
+
+    @Override
+    public int removeExpired(Instant now) {
+        int before = records.size();
+        records.values().removeIf(record -> record.isExpired(now));
+        synchronized (insertionOrder) {
+            insertionOrder.removeIf(key -> !records.containsKey(key) && queued.remove(key));
+        }
+        return Math.max(0, before - records.size());
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Drops the oldest completed records once the store is over its bound. Records still in
+     * flight are kept, since dropping them would let a retry run alongside the original.
+     */
+    private void evictOverflow() {
+        int attempts;
+        synchronized (insertionOrder) {
+            attempts = insertionOrder.size();
+        }
+        while (records.size() > maxEntries && attempts-- > 0) {
+            String key = pollOldest();
+            if (key == null) {
+                return;
+            }
+            AtomicBoolean inFlight = new AtomicBoolean();
+            records.computeIfPresent(key, (k, record) -> {
+                inFlight.set(!record.isCompleted());
+                return record.isCompleted() ? null : record;
+            });
+            if (inFlight.get()) {
+                enqueue(key);
+            }
+        }
+    }
+
+    private void enqueue(String key) {
+        synchronized (insertionOrder) {
+            if (queued.add(key)) {
+                insertionOrder.addLast(key);
+            }
+        }
+    }
+
+    private String pollOldest() {
+        synchronized (insertionOrder) {
+            String key = insertionOrder.pollFirst();
+            if (key != null) {
+                queued.remove(key);
+            }
+            return key;
+        }
+    }
+
+    int queuedKeys() {
+        synchronized (insertionOrder) {
+            return insertionOrder.size();
+        }
+    }
+}
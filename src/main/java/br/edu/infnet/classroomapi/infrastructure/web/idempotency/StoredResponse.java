@@ -0,0 +1,7 @@
+package br.edu.infnet.classroomapi.infrastructure.web.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+public record StoredResponse(int status, Map<String, List<String>> headers, byte[] body) {
+}
@@ -0,0 +1,55 @@
+package br.edu.infnet.classroomapi.application.fields;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldSelection Tests")
+class FieldSelectionTest {
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should select everything when the parameter is missing or blank")
+        void shouldSelectEverythingWhenBlank() {
+            assertTrue(FieldSelection.parse(null).isAll());
+            assertTrue(FieldSelection.parse(" , ").isAll());
+        }
+
+        @Test
+        @DisplayName("Should trim paths and drop empty entries")
+        void shouldTrimPaths() {
+            assertEquals(Set.of("id", "student.name"), FieldSelection.parse(" id, ,student.name ").getPaths());
+        }
+    }
+
+    @Nested
+    @DisplayName("Inclusion Tests")
+    class InclusionTests {
+
+        private final FieldSelection selection = FieldSelection.parse("id,student.name,subject");
+
+        @Test
+        @DisplayName("Should include requested paths and the objects that contain them")
+        void shouldIncludeRequestedPathsAndContainers() {
+            assertTrue(selection.includes("id"));
+            assertTrue(selection.includes("student"));
+            assertTrue(selection.includes("student.name"));
+            assertFalse(selection.includes("student.address"));
+            assertFalse(selection.includes("grade"));
+        }
+
+        @Test
+        @DisplayName("Should include every descendant of a requested object")
+        void shouldIncludeDescendantsOfRequestedObject() {
+            assertTrue(selection.includes("subject.professor.name"));
+            assertFalse(selection.includes("subjectCode"));
+        }
+    }
+}
@@ -15,14 +15,21 @@ import br.edu.infnet.classroomapi.domain.enums.UserRole;
 import br.edu.infnet.classroomapi.domain.repositories.EnrollmentRepository;
 import br.edu.infnet.classroomapi.domain.repositories.StudentRepository;
 import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SeatReservations;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SingleFlight;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
 import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.services.OwnershipService;
 import br.edu.infnet.classroomapi.infrastructure.security.services.SecurityContextService;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.SubjectFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -32,10 +39,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -61,6 +70,16 @@ class EnrollmentApplicationServiceTest {
     @Mock
     private SecurityContextService securityContextService;
 
+    @Mock
+    private OwnershipService ownershipService;
+
+
+    @Mock
+    private SeatReservations seatReservations;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new ConcurrencyProperties().getCoalescing(), new SimpleMeterRegistry());
+
     @InjectMocks
     private EnrollmentApplicationService enrollmentService;
 
@@ -136,7 +155,10 @@ class EnrollmentApplicationServiceTest {
             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
             when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
             when(enrollmentRepository.existsByStudentIdAndSubjectId(1L, 1L)).thenReturn(false);
+            when(seatReservations.reserve(eq(subject), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
             when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
             when(enrollmentMapper.toResponseDTO(any(Enrollment.class), any(EnrollmentJpaRepository.class)))
                     .thenReturn(enrollmentResponseDTO);
@@ -203,12 +225,32 @@ class EnrollmentApplicationServiceTest {
             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
             when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
             when(enrollmentRepository.existsByStudentIdAndSubjectId(1L, 1L)).thenReturn(true);
 
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                     () -> enrollmentService.createEnrollment(createEnrollmentRequest));
 
             assertEquals("Student is already enrolled in this subject", exception.getMessage());
+            verifyNoInteractions(seatReservations);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when subject has no seats left")
+        void shouldThrowExceptionWhenSubjectIsFull() {
+            when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+            when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
+            when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
+            when(enrollmentRepository.existsByStudentIdAndSubjectId(1L, 1L)).thenReturn(false);
+            when(seatReservations.reserve(eq(subject), any()))
+                    .thenThrow(new SubjectFullException("Subject JAVA101 has no seats left"));
+
+            SubjectFullException exception = assertThrows(SubjectFullException.class,
+                    () -> enrollmentService.createEnrollment(createEnrollmentRequest));
+
+            assertEquals("Subject JAVA101 has no seats left", exception.getMessage());
+            verify(enrollmentRepository, never()).save(any(Enrollment.class));
         }
     }
 
@@ -221,6 +263,7 @@ class EnrollmentApplicationServiceTest {
         void shouldAssignGradeSuccessfully() {
             when(enrollmentRepository.findById(1L)).thenReturn(Optional.of(enrollment));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
             when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
             when(enrollmentMapper.toResponseDTO(any(Enrollment.class), any(EnrollmentJpaRepository.class)))
                     .thenReturn(enrollmentResponseDTO);
@@ -396,14 +439,12 @@ class EnrollmentApplicationServiceTest {
         @Test
         @DisplayName("Should find current professor subjects enrollments successfully")
         void shouldFindCurrentProfessorSubjectsEnrollmentsSuccessfully() {
-            List<Subject> professorSubjects = Arrays.asList(subject);
             List<Enrollment> enrollments = Arrays.asList(enrollment);
 
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
-            when(subjectRepository.findByProfessorId(1L)).thenReturn(professorSubjects);
-            when(enrollmentRepository.findBySubjectId(1L)).thenReturn(enrollments);
-            when(enrollmentMapper.toResponseDTO(any(Enrollment.class), any(EnrollmentJpaRepository.class)))
-                    .thenReturn(enrollmentResponseDTO);
+            when(enrollmentRepository.findBySubjectProfessorId(1L)).thenReturn(enrollments);
+            when(enrollmentMapper.toResponseDTOList(any(), any(EnrollmentJpaRepository.class)))
+                    .thenReturn(Arrays.asList(enrollmentResponseDTO));
 
             List<EnrollmentResponseDTO> result = enrollmentService.findByCurrentProfessorSubjects();
 
@@ -412,8 +453,7 @@ class EnrollmentApplicationServiceTest {
             assertEquals(1, result.size());
 
             verify(securityContextService).getCurrentProfessorId();
-            verify(subjectRepository).findByProfessorId(1L);
-            verify(enrollmentRepository).findBySubjectId(1L);
+            verify(enrollmentRepository).findBySubjectProfessorId(1L);
         }
     }
 
@@ -426,6 +466,7 @@ class EnrollmentApplicationServiceTest {
         void shouldSuspendEnrollmentSuccessfully() {
             when(enrollmentRepository.findById(1L)).thenReturn(Optional.of(enrollment));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
             when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
             when(enrollmentMapper.toResponseDTO(any(Enrollment.class), any(EnrollmentJpaRepository.class)))
                     .thenReturn(enrollmentResponseDTO);
@@ -444,6 +485,7 @@ class EnrollmentApplicationServiceTest {
         void shouldReactivateEnrollmentSuccessfully() {
             when(enrollmentRepository.findById(1L)).thenReturn(Optional.of(enrollment));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
             when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
             when(enrollmentMapper.toResponseDTO(any(Enrollment.class), any(EnrollmentJpaRepository.class)))
                     .thenReturn(enrollmentResponseDTO);
@@ -477,34 +519,36 @@ class EnrollmentApplicationServiceTest {
         @Test
         @DisplayName("Should delete enrollment successfully")
         void shouldDeleteEnrollmentSuccessfully() {
-            when(enrollmentRepository.findById(1L)).thenReturn(Optional.of(enrollment));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsEnrollment(1L, 1L)).thenReturn(true);
 
             assertDoesNotThrow(() -> enrollmentService.deleteEnrollment(1L));
 
-            verify(enrollmentRepository).findById(1L);
             verify(securityContextService).getCurrentProfessorId();
             verify(enrollmentRepository).deleteById(1L);
+            verify(enrollmentRepository, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("Should throw exception when enrollment not found for deletion")
         void shouldThrowExceptionWhenEnrollmentNotFoundForDeletion() {
-            when(enrollmentRepository.findById(1L)).thenReturn(Optional.empty());
+            when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(enrollmentRepository.existsById(1L)).thenReturn(false);
 
             RuntimeException exception = assertThrows(RuntimeException.class,
                     () -> enrollmentService.deleteEnrollment(1L));
 
             assertEquals("Enrollment not found", exception.getMessage());
-            verify(enrollmentRepository).findById(1L);
+            verify(enrollmentRepository).existsById(1L);
             verify(enrollmentRepository, never()).deleteById(anyLong());
         }
 
         @Test
         @DisplayName("Should throw exception when trying to delete other professor's enrollment")
         void shouldThrowExceptionWhenTryingToDeleteOtherProfessorsEnrollment() {
-            when(enrollmentRepository.findById(1L)).thenReturn(Optional.of(enrollment));
             when(securityContextService.getCurrentProfessorId()).thenReturn(2L);
+            when(enrollmentRepository.existsById(1L)).thenReturn(true);
+
             RuntimeException exception = assertThrows(RuntimeException.class,
                     () -> enrollmentService.deleteEnrollment(1L));
 
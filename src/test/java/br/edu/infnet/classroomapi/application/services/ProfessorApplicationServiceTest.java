@@ -6,6 +6,11 @@ import br.edu.infnet.classroomapi.application.mappers.ProfessorDTOMapper;
 import br.edu.infnet.classroomapi.domain.entities.Professor;
 import br.edu.infnet.classroomapi.domain.enums.UserRole;
 import br.edu.infnet.classroomapi.domain.repositories.ProfessorRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.credentials.CredentialCache;
+import br.edu.infnet.classroomapi.infrastructure.security.refresh.RefreshTokenService;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
+import br.edu.infnet.classroomapi.infrastructure.security.services.OwnershipService;
+import br.edu.infnet.classroomapi.infrastructure.security.services.PasswordHashingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,8 +18,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -39,7 +45,20 @@ class ProfessorApplicationServiceTest {
     private ProfessorDTOMapper professorMapper;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private CredentialCache credentialCache;
+
+    @Mock
+    private OwnershipService ownershipService;
+
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
     @InjectMocks
     private ProfessorApplicationService professorService;
@@ -84,7 +103,7 @@ class ProfessorApplicationServiceTest {
         void shouldCreateProfessorSuccessfully() {
             when(professorRepository.existsByEmail(anyString())).thenReturn(false);
             when(professorMapper.toDomain(any(CreateProfessorRequestDTO.class))).thenReturn(professor);
-            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword123");
+            when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword123");
             when(professorRepository.save(any(Professor.class))).thenReturn(professor);
             when(professorMapper.toResponseDTO(any(Professor.class))).thenReturn(professorResponseDTO);
 
@@ -98,7 +117,7 @@ class ProfessorApplicationServiceTest {
 
             verify(professorRepository).existsByEmail("professor@email.com");
             verify(professorMapper).toDomain(createProfessorRequest);
-            verify(passwordEncoder).encode("password123");
+            verify(passwordHashingService).encode("password123");
             verify(professorRepository).save(any(Professor.class));
             verify(professorMapper).toResponseDTO(professor);
         }
@@ -114,7 +133,7 @@ class ProfessorApplicationServiceTest {
             assertEquals("Email already exists", exception.getMessage());
 
             verify(professorRepository).existsByEmail("professor@email.com");
-            verifyNoInteractions(professorMapper, passwordEncoder);
+            verifyNoInteractions(professorMapper, passwordHashingService);
             verify(professorRepository, never()).save(any(Professor.class));
         }
 
@@ -123,13 +142,13 @@ class ProfessorApplicationServiceTest {
         void shouldEncodePasswordWhenCreatingProfessor() {
             when(professorRepository.existsByEmail(anyString())).thenReturn(false);
             when(professorMapper.toDomain(any(CreateProfessorRequestDTO.class))).thenReturn(professor);
-            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword123");
+            when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword123");
             when(professorRepository.save(any(Professor.class))).thenReturn(professor);
             when(professorMapper.toResponseDTO(any(Professor.class))).thenReturn(professorResponseDTO);
 
             professorService.createProfessor(createProfessorRequest);
 
-            verify(passwordEncoder).encode("password123");
+            verify(passwordHashingService).encode("password123");
             verify(professorRepository).save(argThat(prof -> 
                 "encodedPassword123".equals(prof.getPassword())
             ));
@@ -283,6 +302,29 @@ class ProfessorApplicationServiceTest {
 
             verify(professorRepository).findById(1L);
             verify(professorRepository).deleteById(1L);
+            verify(credentialCache).invalidate(professor.getEmail());
+            verify(refreshTokenService).revokeAllForProfessor(1L);
+            verify(tokenRevocationService).revokeAllForProfessor(1L);
+        }
+
+        @Test
+        @DisplayName("Should defer cache and revocation updates until the deletion commits")
+        void shouldDeferSideEffectsUntilCommit() {
+            when(professorRepository.findById(1L)).thenReturn(Optional.of(professor));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                professorService.deleteById(1L);
+                verifyNoInteractions(credentialCache, refreshTokenService, tokenRevocationService, ownershipService);
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(credentialCache).invalidate(professor.getEmail());
+            verify(tokenRevocationService).revokeAllForProfessor(1L);
+            verify(ownershipService).professorDeleted(1L);
         }
 
         @Test
@@ -297,6 +339,7 @@ class ProfessorApplicationServiceTest {
 
             verify(professorRepository).findById(1L);
             verify(professorRepository, never()).deleteById(anyLong());
+            verifyNoInteractions(refreshTokenService, tokenRevocationService);
         }
 
         @Test
@@ -359,13 +402,13 @@ class ProfessorApplicationServiceTest {
         void shouldMaintainDataIntegrityDuringProfessorCreation() {
             when(professorRepository.existsByEmail(anyString())).thenReturn(false);
             when(professorMapper.toDomain(any(CreateProfessorRequestDTO.class))).thenReturn(professor);
-            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword123");
+            when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword123");
             when(professorRepository.save(any(Professor.class))).thenReturn(professor);
             when(professorMapper.toResponseDTO(any(Professor.class))).thenReturn(professorResponseDTO);
 
             professorService.createProfessor(createProfessorRequest);
 
-            verify(passwordEncoder).encode("password123");
+            verify(passwordHashingService).encode("password123");
 
             verify(professorRepository).save(argThat(prof -> 
                 !"password123".equals(prof.getPassword()) &&
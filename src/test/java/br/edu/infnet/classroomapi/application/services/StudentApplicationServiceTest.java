@@ -38,6 +38,7 @@ class StudentApplicationServiceTest {
     @Mock
     private StudentDTOMapper studentMapper;
 
+
     @InjectMocks
     private StudentApplicationService studentService;
 
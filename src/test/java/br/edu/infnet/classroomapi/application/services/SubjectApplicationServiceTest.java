@@ -8,8 +8,13 @@ import br.edu.infnet.classroomapi.domain.entities.Professor;
 import br.edu.infnet.classroomapi.domain.entities.Subject;
 import br.edu.infnet.classroomapi.domain.repositories.ProfessorRepository;
 import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SeatReservations;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.SingleFlight;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
 import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.services.OwnershipService;
 import br.edu.infnet.classroomapi.infrastructure.security.services.SecurityContextService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -51,6 +57,16 @@ class SubjectApplicationServiceTest {
     @Mock
     private SecurityContextService securityContextService;
 
+    @Mock
+    private OwnershipService ownershipService;
+
+
+    @Mock
+    private SeatReservations seatReservations;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new ConcurrencyProperties().getCoalescing(), new SimpleMeterRegistry());
+
     @InjectMocks
     private SubjectApplicationService subjectService;
 
@@ -115,6 +131,7 @@ class SubjectApplicationServiceTest {
             verify(professorRepository).findById(1L);
             verify(subjectMapper).toDomain(createSubjectRequest);
             verify(subjectRepository).save(subject);
+            verify(ownershipService).subjectSaved(subject.getId(), 1L);
             verify(subjectMapper).toResponseDTO(subject, enrollmentRepository);
         }
 
@@ -322,6 +339,7 @@ class SubjectApplicationServiceTest {
 
             when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
             when(subjectMapper.toDomain(updateRequest)).thenReturn(updatedSubject);
             when(subjectRepository.save(any(Subject.class))).thenReturn(updatedSubject);
             when(subjectMapper.toResponseDTO(any(Subject.class), any(EnrollmentJpaRepository.class))).thenReturn(updatedResponseDTO);
@@ -377,20 +395,22 @@ class SubjectApplicationServiceTest {
         @Test
         @DisplayName("Should delete subject successfully")
         void shouldDeleteSubjectSuccessfully() {
-            when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
             when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(ownershipService.ownsSubject(1L, 1L)).thenReturn(true);
 
             assertDoesNotThrow(() -> subjectService.deleteById(1L));
 
-            verify(subjectRepository).findById(1L);
             verify(securityContextService).getCurrentProfessorId();
             verify(subjectRepository).deleteById(1L);
+            verify(subjectRepository, never()).findById(anyLong());
+            verify(ownershipService).subjectDeleted(1L);
         }
 
         @Test
         @DisplayName("Should throw exception when deleting non-existent subject")
         void shouldThrowExceptionWhenDeletingNonExistentSubject() {
-            when(subjectRepository.findById(1L)).thenReturn(Optional.empty());
+            when(securityContextService.getCurrentProfessorId()).thenReturn(1L);
+            when(subjectRepository.existsById(1L)).thenReturn(false);
 
             RuntimeException exception = assertThrows(
                 RuntimeException.class,
@@ -398,15 +418,15 @@ class SubjectApplicationServiceTest {
             );
 
             assertEquals("Subject not found with id: 1", exception.getMessage());
-            verify(subjectRepository).findById(1L);
+            verify(subjectRepository).existsById(1L);
             verify(subjectRepository, never()).deleteById(anyLong());
         }
 
         @Test
         @DisplayName("Should throw exception when professor doesn't own the subject")
         void shouldThrowExceptionWhenProfessorDoesNotOwnTheSubject() {
-            when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
             when(securityContextService.getCurrentProfessorId()).thenReturn(2L);
+            when(subjectRepository.existsById(1L)).thenReturn(true);
 
             RuntimeException exception = assertThrows(
                 RuntimeException.class,
@@ -414,7 +434,7 @@ class SubjectApplicationServiceTest {
             );
 
             assertEquals("You can only delete your own subjects", exception.getMessage());
-            verify(subjectRepository).findById(1L);
+            verify(subjectRepository).existsById(1L);
             verify(securityContextService).getCurrentProfessorId();
             verify(subjectRepository, never()).deleteById(anyLong());
         }
@@ -1,5 +1,6 @@
 package br.edu.infnet.classroomapi.domain.entities;
 
+import br.edu.infnet.classroomapi.domain.validators.DomainValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -174,6 +176,17 @@ class StudentTest {
             });
         }
 
+        @Test
+        @DisplayName("Should report every invalid field at once")
+        void shouldReportEveryInvalidFieldAtOnce() {
+            DomainValidationException exception = assertThrows(
+                DomainValidationException.class,
+                () -> new Student(" ", null, "invalid-email", "(11) 99999-9999", validAddress)
+            );
+            assertEquals(List.of("Name cannot be null or empty", "CPF cannot be null or empty", "Invalid email format"),
+                exception.getViolations());
+        }
+
         @Test
         @DisplayName("Should throw exception for null name")
         void shouldThrowExceptionForNullName() {
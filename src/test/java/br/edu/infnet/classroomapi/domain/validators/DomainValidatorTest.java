@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -502,4 +504,101 @@ class DomainValidatorTest {
             assertDoesNotThrow(() -> DomainValidator.validateNotEmpty(unicodeString, "Name"));
         }
     }
+
+    @Nested
+    @DisplayName("Scanner Tests")
+    class ScannerTests {
+
+        private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+        @Test
+        @DisplayName("Should match the email pattern for every sample")
+        void shouldMatchEmailPatternForEverySample() {
+            String[] samples = {
+                "user@example.com", "a@b", "a@@b", "@b.com", "a@", "@", "", "a b@c.com", "a@b c",
+                "user+tag@example.com", "user@exa\nmple.com", "user@example.com\n", "us\u00e9r@example.com",
+                "user@ex\u2028ample.com", "user@\u00e9xample.com", "user@example.com\r\n", "plainaddress"
+            };
+
+            for (String sample : samples) {
+                assertEquals(EMAIL_PATTERN.matcher(sample).matches(), DomainValidator.isValidEmail(sample),
+                    "Scanner and pattern disagree on: " + sample);
+            }
+        }
+
+        @Test
+        @DisplayName("Should treat the same strings as blank as trim")
+        void shouldTreatSameStringsAsBlankAsTrim() {
+            String[] samples = {"", " ", "\t\n", "\u0000 ", " a ", "a", "\u00a0"};
+
+            for (String sample : samples) {
+                assertEquals(sample.trim().isEmpty(), DomainValidator.isBlank(sample), "Disagree on: " + sample);
+            }
+            assertTrue(DomainValidator.isBlank(null));
+        }
+
+        @Test
+        @DisplayName("Should validate CPF format and check digits")
+        void shouldValidateCpfFormatAndCheckDigits() {
+            assertTrue(DomainValidator.isValidCpf("52998224725", true));
+            assertTrue(DomainValidator.isValidCpf("11144477735", true));
+            assertFalse(DomainValidator.isValidCpf("12345678901", true));
+            assertTrue(DomainValidator.isValidCpf("12345678901", false));
+            assertFalse(DomainValidator.isValidCpf("11111111111", true));
+            assertFalse(DomainValidator.isValidCpf("529.982.247-25", false));
+            assertFalse(DomainValidator.isValidCpf("5299822472", false));
+            assertFalse(DomainValidator.isValidCpf(null, false));
+        }
+
+        @Test
+        @DisplayName("Should validate subject codes")
+        void shouldValidateSubjectCodes() {
+            assertTrue(DomainValidator.isValidSubjectCode("JAVA101"));
+            assertTrue(DomainValidator.isValidSubjectCode("CS-101_A"));
+            assertFalse(DomainValidator.isValidSubjectCode("CS 101"));
+            assertFalse(DomainValidator.isValidSubjectCode(""));
+            assertFalse(DomainValidator.isValidSubjectCode("A".repeat(21)));
+
+            IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> DomainValidator.validateSubjectCode("CS 101")
+            );
+            assertEquals("Invalid subject code format", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("DomainViolations Tests")
+    class DomainViolationsTests {
+
+        @Test
+        @DisplayName("Should accumulate every violation before throwing")
+        void shouldAccumulateEveryViolationBeforeThrowing() {
+            DomainViolations violations = new DomainViolations()
+                .notBlank("  ", "Name cannot be null or empty")
+                .cpf("123", false, "Invalid CPF")
+                .email("invalid-email", "Invalid email format")
+                .positive(0, "Workload");
+
+            DomainValidationException exception = assertThrows(DomainValidationException.class, violations::throwIfAny);
+
+            assertEquals(4, exception.getViolations().size());
+            assertEquals("Name cannot be null or empty; Invalid CPF; Invalid email format; Workload must be positive",
+                exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should not throw when every check passes")
+        void shouldNotThrowWhenEveryCheckPasses() {
+            DomainViolations violations = new DomainViolations()
+                .notNull("value", "Field")
+                .notBlank("João Silva", "Name cannot be null or empty")
+                .email("joao@email.com", "Invalid email format")
+                .subjectCode("JAVA101", "Invalid subject code format");
+
+            assertTrue(violations.isEmpty());
+            assertTrue(violations.getMessages().isEmpty());
+            assertDoesNotThrow(violations::throwIfAny);
+        }
+    }
 }
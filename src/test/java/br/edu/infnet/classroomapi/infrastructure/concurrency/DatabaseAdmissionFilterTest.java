@@ -0,0 +1,129 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DatabaseAdmissionFilter Tests")
+class DatabaseAdmissionFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private DatabaseAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyProperties properties = new ConcurrencyProperties();
+        properties.getAdmission().setMaxConcurrent(1);
+        properties.getAdmission().setAcquireTimeout(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new DatabaseAdmissionFilter(properties, null, new ObjectMapper(), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Admission Tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should let requests through while permits are available")
+        void shouldLetRequestsThroughWhilePermitsAreAvailable() throws Exception {
+            AtomicInteger active = new AtomicInteger();
+            MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                    active.set((int) meterRegistry.get(DatabaseAdmissionFilter.ACTIVE_METRIC).gauge().value());
+                }
+            });
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/students"), response, chain);
+
+            assertEquals(200, response.getStatus());
+            assertEquals(1, active.get());
+            assertEquals(0, meterRegistry.get(DatabaseAdmissionFilter.ACTIVE_METRIC).gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should reject with 503 when all permits are held")
+        void shouldRejectWhenAllPermitsAreHeld() throws Exception {
+            MockHttpServletResponse nested = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp)
+                        throws ServletException, IOException {
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/subjects"), nested, new MockFilterChain());
+                }
+            });
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/students"), new MockHttpServletResponse(), chain);
+
+            assertEquals(503, nested.getStatus());
+            assertEquals("1", nested.getHeader("Retry-After"));
+            assertTrue(nested.getContentAsString().contains("SERVICE_UNAVAILABLE"));
+            assertEquals(1.0, meterRegistry.get(DatabaseAdmissionFilter.REJECTED_METRIC).counter().count());
+        }
+
+        @Test
+        @DisplayName("Should hand out only the extra permits that are free")
+        void shouldHandOutOnlyFreeExtraPermits() throws Exception {
+            ConcurrencyProperties properties = new ConcurrencyProperties();
+            properties.getAdmission().setMaxConcurrent(4);
+            DatabaseAdmissionFilter wide = new DatabaseAdmissionFilter(properties, null, new ObjectMapper(), meterRegistry);
+            AtomicInteger first = new AtomicInteger();
+            AtomicInteger second = new AtomicInteger();
+            MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                    first.set(wide.tryAcquireExtra(5));
+                    second.set(wide.tryAcquireExtra(1));
+                    wide.releaseExtra(first.get());
+                }
+            });
+
+            wide.doFilter(new MockHttpServletRequest("POST", "/api/v1/batch"), new MockHttpServletResponse(), chain);
+
+            assertEquals(3, first.get());
+            assertEquals(0, second.get());
+            assertEquals(3, wide.tryAcquireExtra(3));
+        }
+
+        @Test
+        @DisplayName("Should leave headroom below the Hikari pool size")
+        void shouldLeaveHeadroomBelowPoolSize() {
+            ConcurrencyProperties properties = new ConcurrencyProperties();
+            try (HikariDataSource dataSource = new HikariDataSource()) {
+                dataSource.setMaximumPoolSize(10);
+
+                DatabaseAdmissionFilter pooled = new DatabaseAdmissionFilter(properties, dataSource, new ObjectMapper(),
+                        new SimpleMeterRegistry());
+
+                assertEquals(8, pooled.getMaxConcurrent());
+            }
+        }
+
+        @Test
+        @DisplayName("Should not gate requests outside the API")
+        void shouldNotGateRequestsOutsideTheApi() {
+            assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/actuator/prometheus")));
+            assertFalse(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/v1/students")));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.application.dto.request.CreateEnrollmentRequestDTO;
+import br.edu.infnet.classroomapi.application.services.EnrollmentApplicationService;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TestDataSeeder;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.StudentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.services.SecurityContextService;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.SubjectFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("SeatReservations Integration Tests")
+class SeatReservationsIntegrationTest {
+
+    private static final int STUDENTS = 30;
+
+    @Autowired
+    private EnrollmentApplicationService enrollmentService;
+
+    @Autowired
+    private SeatReservations seatReservations;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProfessorJpaRepository professorRepository;
+
+    @Autowired
+    private StudentJpaRepository studentRepository;
+
+    @Autowired
+    private SubjectJpaRepository subjectRepository;
+
+    @Autowired
+    private EnrollmentJpaRepository enrollmentRepository;
+
+    @MockitoBean
+    private SecurityContextService securityContextService;
+
+    private TestDataSeeder seeder;
+    private List<StudentEntity> students;
+    private SubjectEntity subject;
+
+    @BeforeEach
+    void seed() {
+        seeder = new TestDataSeeder(professorRepository, studentRepository, subjectRepository, enrollmentRepository);
+        seeder.clear();
+        TestDataSeeder.SeededData data = seeder.seed(STUDENTS, 1, 0, 0);
+        students = data.students();
+        subject = data.subjects().get(0);
+        when(securityContextService.getCurrentProfessorId()).thenReturn(subject.getProfessor().getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        seeder.clear();
+    }
+
+    private void limitTo(int capacity) {
+        subject.setCapacity(capacity);
+        subject = subjectRepository.save(subject);
+    }
+
+    private int seatsTaken() {
+        return subjectRepository.findById(subject.getId()).orElseThrow().getSeatsTaken();
+    }
+
+    private void enroll(StudentEntity student) {
+        enrollmentService.createEnrollment(new CreateEnrollmentRequestDTO(student.getId(), subject.getId()));
+    }
+
+    @Nested
+    @DisplayName("Reservation Tests")
+    class ReservationTests {
+
+        @Test
+        @DisplayName("Should never take more seats than the capacity when enrollments race")
+        void shouldNeverOverbookUnderContention() throws Exception {
+            int capacity = 5;
+            limitTo(capacity);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(STUDENTS)) {
+                for (StudentEntity student : students) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            enroll(student);
+                            return true;
+                        } catch (SubjectFullException e) {
+                            return false;
+                        }
+                    }));
+                }
+                start.countDown();
+
+                int enrolled = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get()) {
+                        enrolled++;
+                    }
+                }
+
+                assertEquals(capacity, enrolled);
+            }
+            assertEquals(capacity, seatsTaken());
+            assertEquals(capacity, enrollmentRepository.countBySubjectId(subject.getId()));
+        }
+
+        @Test
+        @DisplayName("Should undo the seat together with the enrollment when the transaction rolls back")
+        void shouldUndoSeatOnRollback() {
+            limitTo(1);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+            transaction.executeWithoutResult(status -> {
+                enroll(students.get(0));
+                status.setRollbackOnly();
+            });
+
+            assertEquals(0, seatsTaken());
+            assertEquals(0, enrollmentRepository.countBySubjectId(subject.getId()));
+
+            enroll(students.get(1));
+
+            assertEquals(1, seatsTaken());
+            assertThrows(SubjectFullException.class, () -> enroll(students.get(2)));
+            assertEquals(1, seatsTaken());
+        }
+
+        @Test
+        @DisplayName("Should leave the seat count alone in subjects without a capacity")
+        void shouldNotCountSeatsWithoutCapacity() {
+            enroll(students.get(0));
+            enroll(students.get(1));
+
+            assertEquals(0, seatsTaken());
+            assertEquals(2, enrollmentRepository.countBySubjectId(subject.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation Tests")
+    class ReconciliationTests {
+
+        @Test
+        @DisplayName("Should recount seats from enrollments written without a reservation")
+        void shouldRecountSeatsFromEnrollments() {
+            enroll(students.get(0));
+            enroll(students.get(1));
+            enroll(students.get(2));
+            limitTo(3);
+
+            seatReservations.reconcileAll();
+
+            assertEquals(3, seatsTaken());
+            assertThrows(SubjectFullException.class, () -> enroll(students.get(3)));
+        }
+    }
+}
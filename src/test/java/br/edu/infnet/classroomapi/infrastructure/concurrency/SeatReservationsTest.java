@@ -0,0 +1,254 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.domain.entities.Subject;
+import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.SubjectFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SeatReservations Tests")
+class SeatReservationsTest {
+
+    private static final long SUBJECT_ID = 1L;
+
+    private ConcurrencyProperties properties;
+    private MeterRegistry meterRegistry;
+    private SubjectRepository subjectRepository;
+    private AtomicInteger seatsTaken;
+    private AtomicInteger seatUpdates;
+    private int capacity;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        subjectRepository = mock(SubjectRepository.class);
+        seatsTaken = new AtomicInteger();
+        seatUpdates = new AtomicInteger();
+        capacity = 10;
+
+        // Behaves like the conditional UPDATE: the row lock serializes callers and the WHERE clause caps the count.
+        when(subjectRepository.takeSeat(anyLong())).thenAnswer(invocation -> {
+            seatUpdates.incrementAndGet();
+            synchronized (seatsTaken) {
+                if (seatsTaken.get() >= capacity) {
+                    return false;
+                }
+                seatsTaken.incrementAndGet();
+                return true;
+            }
+        });
+        when(subjectRepository.releaseSeat(anyLong())).thenAnswer(invocation -> {
+            synchronized (seatsTaken) {
+                if (seatsTaken.get() == 0) {
+                    return false;
+                }
+                seatsTaken.decrementAndGet();
+                return true;
+            }
+        });
+    }
+
+    private SeatReservations reservations() {
+        return new SeatReservations(TransactionOperations.withoutTransaction(), subjectRepository,
+                properties.getSeats(), meterRegistry);
+    }
+
+    private Subject snapshot() {
+        Subject subject = new Subject("Java Programming", "JAVA101", "Introduction to Java", 60);
+        subject.setId(SUBJECT_ID);
+        subject.setCapacity(capacity);
+        subject.setSeatsTaken(seatsTaken.get());
+        return subject;
+    }
+
+    private static boolean reserve(SeatReservations reservations, Subject subject) {
+        try {
+            return reservations.reserve(subject, () -> true);
+        } catch (SubjectFullException e) {
+            return false;
+        }
+    }
+
+    @Nested
+    @DisplayName("Reservation Tests")
+    class ReservationTests {
+
+        @Test
+        @DisplayName("Should never overbook when many callers race for the last seats")
+        void shouldNeverOverbookUnderContention() throws Exception {
+            properties.getSeats().setResyncInterval(Duration.ofHours(1));
+            SeatReservations reservations = reservations();
+            int callers = 200;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+                for (int i = 0; i < callers; i++) {
+                    Subject subject = snapshot();
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return reserve(reservations, subject);
+                    }));
+                }
+                start.countDown();
+
+                int reserved = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get()) {
+                        reserved++;
+                    }
+                }
+
+                assertEquals(capacity, reserved);
+            }
+            assertEquals(capacity, seatsTaken.get());
+            assertEquals(capacity, seatUpdates.get(), "callers without a claim must not reach the database");
+            assertEquals(callers - capacity,
+                    meterRegistry.get(SeatReservations.RESERVATIONS_METRIC).tag("result", "full").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should treat a conditional update that matches no row as full")
+        void shouldTreatUnmatchedUpdateAsFull() {
+            Subject stale = snapshot();
+            seatsTaken.set(capacity);
+            properties.getSeats().setResyncInterval(Duration.ofHours(1));
+
+            SeatReservations reservations = reservations();
+
+            SubjectFullException exception = assertThrows(SubjectFullException.class,
+                    () -> reservations.reserve(stale, () -> true));
+            assertEquals("Subject JAVA101 has no seats left", exception.getMessage());
+            assertFalse(reserve(reservations, stale));
+            assertEquals(1, seatUpdates.get());
+        }
+
+        @Test
+        @DisplayName("Should run the writes without touching seats in subjects without a capacity")
+        void shouldNotTouchSeatsWithoutCapacity() {
+            Subject unlimited = snapshot();
+            unlimited.setCapacity(null);
+
+            SeatReservations reservations = reservations();
+
+            assertEquals("saved", reservations.reserve(unlimited, () -> "saved"));
+            assertEquals("saved", reservations.reserve(unlimited, () -> "saved"));
+            verify(subjectRepository, never()).takeSeat(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should take the seat before running the writes")
+        void shouldTakeSeatBeforeWrites() {
+            SeatReservations reservations = reservations();
+
+            int updatesSeenByWrites = reservations.reserve(snapshot(), seatUpdates::get);
+
+            assertEquals(1, updatesSeenByWrites);
+        }
+
+        @Test
+        @DisplayName("Should give the claim back when the transaction rolls back")
+        void shouldGiveClaimBackOnRollback() {
+            capacity = 1;
+            properties.getSeats().setResyncInterval(Duration.ofHours(1));
+            SeatReservations reservations = reservations();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThrows(IllegalStateException.class, () -> reservations.reserve(snapshot(), () -> {
+                    throw new IllegalStateException("duplicate enrollment");
+                }));
+                seatsTaken.set(0);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertTrue(reserve(reservations, snapshot()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Release Tests")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Should make a released seat available again")
+        void shouldMakeReleasedSeatAvailable() {
+            capacity = 1;
+            SeatReservations reservations = reservations();
+            assertTrue(reserve(reservations, snapshot()));
+            assertFalse(reserve(reservations, snapshot()));
+
+            reservations.release(SUBJECT_ID);
+
+            assertEquals(0, seatsTaken.get());
+            assertTrue(reserve(reservations, snapshot()));
+        }
+
+        @Test
+        @DisplayName("Should not hand out a seat when the release matched no row")
+        void shouldNotCountUnmatchedRelease() {
+            capacity = 1;
+            properties.getSeats().setResyncInterval(Duration.ofHours(1));
+            SeatReservations reservations = reservations();
+            assertTrue(reserve(reservations, snapshot()));
+            seatsTaken.set(0);
+            reservations.release(SUBJECT_ID);
+            seatsTaken.set(1);
+
+            assertFalse(reserve(reservations, snapshot()));
+            assertEquals(1, seatUpdates.get());
+        }
+
+        @Test
+        @DisplayName("Should pick up seats freed elsewhere after the resync interval")
+        void shouldResyncAfterInterval() {
+            capacity = 1;
+            properties.getSeats().setResyncInterval(Duration.ZERO);
+            SeatReservations reservations = reservations();
+            assertTrue(reserve(reservations, snapshot()));
+
+            seatsTaken.set(0);
+
+            assertTrue(reserve(reservations, snapshot()));
+        }
+
+        @Test
+        @DisplayName("Should stay in memory while the count is fresh")
+        void shouldNotResyncBeforeInterval() {
+            capacity = 1;
+            properties.getSeats().setResyncInterval(Duration.ofHours(1));
+            SeatReservations reservations = reservations();
+            assertTrue(reserve(reservations, snapshot()));
+
+            seatsTaken.set(0);
+
+            assertFalse(reserve(reservations, snapshot()));
+            assertEquals(1, seatUpdates.get());
+        }
+    }
+}
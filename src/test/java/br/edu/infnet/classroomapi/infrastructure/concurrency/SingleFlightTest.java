@@ -0,0 +1,150 @@
+package br.edu.infnet.classroomapi.infrastructure.concurrency;
+
+import br.edu.infnet.classroomapi.infrastructure.concurrency.config.ConcurrencyProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private ConcurrencyProperties properties;
+    private MeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyProperties();
+        properties.getCoalescing().getTimeouts().put("slow", Duration.ofMillis(20));
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(properties.getCoalescing(), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should share one load between concurrent callers of the same key")
+        void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.read("subject", 1L, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "subject-1";
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.read("subject", 1L, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }));
+            waitForSharedCall();
+            release.countDown();
+
+            assertEquals("subject-1", leader.get(1, TimeUnit.SECONDS));
+            assertEquals("subject-1", follower.get(1, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should load again once the previous flight has landed")
+        void shouldLoadAgainAfterFlightCompletes() {
+            AtomicInteger loads = new AtomicInteger();
+
+            singleFlight.read("subject", 1L, loads::incrementAndGet);
+            singleFlight.read("subject", 1L, loads::incrementAndGet);
+
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should run every call when coalescing is disabled")
+        void shouldBypassWhenDisabled() {
+            properties.getCoalescing().setEnabled(false);
+
+            assertEquals("value", singleFlight.read("subject", 1L, () -> "value"));
+            assertEquals(0, meterRegistry.find(SingleFlight.CALLS_METRIC).counters().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should hand the leader's exception to every waiting caller")
+        void shouldPropagateLeaderFailure() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> singleFlight.read("subject", 1L, () -> {
+                started.countDown();
+                await(release);
+                throw new RuntimeException("Subject not found with id: 1");
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> singleFlight.read("subject", 1L, () -> "duplicate"));
+            waitForSharedCall();
+            release.countDown();
+
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(1, TimeUnit.SECONDS));
+            Exception followerFailure = assertThrows(Exception.class, () -> follower.get(1, TimeUnit.SECONDS));
+            assertEquals("Subject not found with id: 1", leaderFailure.getCause().getMessage());
+            assertEquals("Subject not found with id: 1", followerFailure.getCause().getMessage());
+        }
+
+        @Test
+        @DisplayName("Should time out waiting callers and evict the stuck flight")
+        void shouldTimeOutAndEvictStuckFlight() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> stuck = CompletableFuture.supplyAsync(() -> singleFlight.read("slow", 1L, () -> {
+                started.countDown();
+                await(release);
+                return "late";
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            assertThrows(ServiceUnavailableException.class, () -> singleFlight.read("slow", 1L, () -> "duplicate"));
+            assertEquals("fresh", singleFlight.read("slow", 1L, () -> "fresh"));
+
+            release.countDown();
+            assertEquals("late", stuck.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    private void waitForSharedCall() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.find(SingleFlight.CALLS_METRIC).tag("result", "shared").counter() == null) {
+            assertTrue(System.nanoTime() < deadline, "follower never joined the flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
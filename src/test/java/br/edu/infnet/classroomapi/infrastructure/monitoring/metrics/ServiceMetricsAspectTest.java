@@ -0,0 +1,60 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.metrics;
+
+import br.edu.infnet.classroomapi.application.services.StudentApplicationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ServiceMetricsAspect Tests")
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    private StudentApplicationService studentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time successful service calls tagged by method and outcome")
+    void shouldTimeSuccessfulServiceCalls() {
+        studentService.findAll();
+
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.CALLS_METRIC)
+                .tag("service", "StudentApplicationService")
+                .tag("method", "findAll")
+                .tag("outcome", "success")
+                .timer();
+
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should count failed service calls by exception type")
+    void shouldCountFailedServiceCalls() {
+        assertThrows(RuntimeException.class, () -> studentService.findById(-1L));
+
+        Counter counter = meterRegistry.find(ServiceMetricsAspect.ERRORS_METRIC)
+                .tag("service", "StudentApplicationService")
+                .tag("method", "findById")
+                .tag("exception", "RuntimeException")
+                .counter();
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.CALLS_METRIC)
+                .tag("method", "findById")
+                .tag("outcome", "error")
+                .timer();
+
+        assertNotNull(counter);
+        assertTrue(counter.count() >= 1);
+        assertNotNull(timer);
+    }
+}
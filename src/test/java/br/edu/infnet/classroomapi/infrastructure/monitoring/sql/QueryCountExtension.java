@@ -0,0 +1,46 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        getStore(context).put(context.getUniqueId(), new QueryCounter(SqlStatementStatisticsHolder.start(true)));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter counter = getStore(context).remove(context.getUniqueId(), QueryCounter.class);
+        if (counter == null) {
+            return;
+        }
+        SqlStatementStatisticsHolder.finish(counter.getStatistics());
+
+        if (context.getExecutionException().isEmpty()) {
+            AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                    .ifPresent(budget -> counter.assertAtMost(budget.value()));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return getStore(extensionContext).get(extensionContext.getUniqueId(), QueryCounter.class);
+    }
+
+    private ExtensionContext.Store getStore(ExtensionContext context) {
+        return context.getStore(NAMESPACE);
+    }
+}
@@ -0,0 +1,43 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class QueryCounter {
+
+    private final SqlStatementStatistics statistics;
+
+    QueryCounter(SqlStatementStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    SqlStatementStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int getStatements() {
+        return statistics.getStatements();
+    }
+
+    public int getLoadedEntities() {
+        return statistics.getLoadedEntities();
+    }
+
+    public List<String> getExecutedSql() {
+        return statistics.getExecutedSql();
+    }
+
+    public void assertAtMost(int budget) {
+        if (statistics.getStatements() > budget) {
+            StringBuilder message = new StringBuilder()
+                    .append("Expected at most ").append(budget)
+                    .append(" SQL statements but ").append(statistics.getStatements()).append(" were executed:");
+            List<String> executedSql = statistics.getExecutedSql();
+            for (int i = 0; i < executedSql.size(); i++) {
+                message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(executedSql.get(i));
+            }
+            fail(message.toString());
+        }
+    }
+}
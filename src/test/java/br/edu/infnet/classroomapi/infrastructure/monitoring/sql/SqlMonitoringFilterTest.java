@@ -0,0 +1,86 @@
+package br.edu.infnet.classroomapi.infrastructure.monitoring.sql;
+
+import br.edu.infnet.classroomapi.infrastructure.web.controllers.TestSecurityConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("SQL Monitoring Tests")
+class SqlMonitoringFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStatisticsHolder.clear();
+    }
+
+    @Nested
+    @DisplayName("Response Header Tests")
+    class ResponseHeaderTests {
+
+        @Test
+        @DisplayName("Should expose statement count and database time headers")
+        void shouldExposeStatementCountAndDatabaseTimeHeaders() throws Exception {
+            mockMvc.perform(get("/api/v1/students"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(SqlMonitoringFilter.QUERIES_HEADER, "1"))
+                    .andExpect(header().exists(SqlMonitoringFilter.TIME_HEADER));
+        }
+
+        @Test
+        @DisplayName("Should expose and record how long the request held database connections")
+        void shouldExposeConnectionHoldTime() throws Exception {
+            mockMvc.perform(get("/api/v1/students"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(SqlMonitoringFilter.CONNECTION_TIME_HEADER));
+
+            Timer timer = meterRegistry.find(SqlMonitoringFilter.CONNECTION_HOLD_METRIC)
+                    .tag("handler", "StudentController.getAllStudents")
+                    .timer();
+            assertNotNull(timer);
+            assertTrue(timer.count() > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Statement Inspector Tests")
+    class StatementInspectorTests {
+
+        @Test
+        @DisplayName("Should count statements only while a request is being tracked")
+        void shouldCountStatementsOnlyWhileTracked() {
+            CountingStatementInspector inspector = new CountingStatementInspector();
+
+            assertEquals("select 1", inspector.inspect("select 1"));
+
+            SqlStatementStatistics statistics = SqlStatementStatisticsHolder.start();
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+
+            assertEquals(2, statistics.getStatements());
+        }
+    }
+}
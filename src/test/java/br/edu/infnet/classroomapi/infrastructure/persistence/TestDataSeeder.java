@@ -0,0 +1,105 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence;
+
+import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.EnrollmentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.ProfessorEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.StudentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestDataSeeder {
+
+    private final ProfessorJpaRepository professorRepository;
+    private final StudentJpaRepository studentRepository;
+    private final SubjectJpaRepository subjectRepository;
+    private final EnrollmentJpaRepository enrollmentRepository;
+
+    public TestDataSeeder(ProfessorJpaRepository professorRepository, StudentJpaRepository studentRepository,
+                          SubjectJpaRepository subjectRepository, EnrollmentJpaRepository enrollmentRepository) {
+        this.professorRepository = professorRepository;
+        this.studentRepository = studentRepository;
+        this.subjectRepository = subjectRepository;
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    public SeededData seed(int studentCount, int subjectCount, int largeSubjectEnrollments, int enrollmentsPerSubject) {
+        ProfessorEntity professor = professorRepository.save(professor("seed.professor@test.com"));
+        ProfessorEntity otherProfessor = professorRepository.save(professor("seed.other@test.com"));
+
+        List<StudentEntity> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            StudentEntity student = new StudentEntity();
+            student.setName("Seed Student " + i);
+            student.setCpf(String.format("%011d", i));
+            student.setEmail("seed.student" + i + "@test.com");
+            students.add(student);
+        }
+        students = studentRepository.saveAll(students);
+
+        List<SubjectEntity> subjects = new ArrayList<>();
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(subject("SEED" + i, i == subjectCount - 1 ? otherProfessor : professor));
+        }
+        subjects = subjectRepository.saveAll(subjects);
+
+        List<EnrollmentEntity> enrollments = new ArrayList<>();
+        for (int s = 0; s < subjects.size(); s++) {
+            int count = Math.min(s == 0 ? largeSubjectEnrollments : enrollmentsPerSubject, students.size());
+            for (int i = 0; i < count; i++) {
+                enrollments.add(enrollment(students.get(i), subjects.get(s), i));
+            }
+        }
+        enrollmentRepository.saveAll(enrollments);
+
+        return new SeededData(professor, subjects, students);
+    }
+
+    public void clear() {
+        enrollmentRepository.deleteAllInBatch();
+        subjectRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+        professorRepository.deleteAllInBatch();
+    }
+
+    private ProfessorEntity professor(String email) {
+        ProfessorEntity professor = new ProfessorEntity();
+        professor.setName("Seed Professor");
+        professor.setEmail(email);
+        professor.setPassword("password");
+        professor.setRole(UserRole.PROFESSOR);
+        return professor;
+    }
+
+    private SubjectEntity subject(String code, ProfessorEntity professor) {
+        SubjectEntity subject = new SubjectEntity();
+        subject.setName("Seed Subject " + code);
+        subject.setCode(code);
+        subject.setWorkload(60);
+        subject.setProfessor(professor);
+        return subject;
+    }
+
+    private EnrollmentEntity enrollment(StudentEntity student, SubjectEntity subject, int index) {
+        EnrollmentEntity enrollment = new EnrollmentEntity();
+        enrollment.setStudent(student);
+        enrollment.setSubject(subject);
+        enrollment.setStatus(index % 10 == 0 ? EnrollmentStatus.SUSPENDED : EnrollmentStatus.ACTIVE);
+        if (index % 3 == 1) {
+            enrollment.setGrade(new BigDecimal("8.50"));
+        } else if (index % 3 == 2) {
+            enrollment.setGrade(new BigDecimal("5.00"));
+        }
+        return enrollment;
+    }
+
+    public record SeededData(ProfessorEntity professor, List<SubjectEntity> subjects, List<StudentEntity> students) {
+    }
+}
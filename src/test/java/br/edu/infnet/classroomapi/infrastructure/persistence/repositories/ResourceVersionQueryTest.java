@@ -0,0 +1,154 @@
+package br.edu.infnet.classroomapi.infrastructure.persistence.repositories;
+
+import br.edu.infnet.classroomapi.application.dto.request.CreateEnrollmentRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.EnrollmentResponseDTO;
+import br.edu.infnet.classroomapi.application.services.EnrollmentApplicationService;
+import br.edu.infnet.classroomapi.domain.repositories.EnrollmentRepository;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+import br.edu.infnet.classroomapi.domain.repositories.SubjectRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TestDataSeeder;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.SubjectEntity;
+import br.edu.infnet.classroomapi.infrastructure.security.services.SecurityContextService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Resource Version Query Tests")
+class ResourceVersionQueryTest {
+
+    @Autowired
+    private EnrollmentApplicationService enrollmentService;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private ProfessorJpaRepository professorJpaRepository;
+
+    @Autowired
+    private StudentJpaRepository studentJpaRepository;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private EnrollmentJpaRepository enrollmentJpaRepository;
+
+    @MockitoBean
+    private SecurityContextService securityContextService;
+
+    private TestDataSeeder seeder;
+    private List<StudentEntity> students;
+    private SubjectEntity subject;
+
+    @BeforeEach
+    void seed() {
+        seeder = new TestDataSeeder(professorJpaRepository, studentJpaRepository, subjectJpaRepository,
+                enrollmentJpaRepository);
+        seeder.clear();
+        TestDataSeeder.SeededData data = seeder.seed(2, 1, 0, 0);
+        students = data.students();
+        subject = data.subjects().get(0);
+        when(securityContextService.getCurrentProfessorId()).thenReturn(subject.getProfessor().getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        seeder.clear();
+    }
+
+    private EnrollmentResponseDTO enroll(StudentEntity student) {
+        return enrollmentService.createEnrollment(new CreateEnrollmentRequestDTO(student.getId(), subject.getId()));
+    }
+
+    @Nested
+    @DisplayName("Subject Version Tests")
+    class SubjectVersionTests {
+
+        @Test
+        @DisplayName("Should change the subject version when a student enrolls")
+        void shouldChangeWhenStudentEnrolls() {
+            ResourceVersion before = subjectRepository.findVersionById(subject.getId()).orElseThrow();
+
+            enroll(students.get(0));
+
+            ResourceVersion after = subjectRepository.findVersionById(subject.getId()).orElseThrow();
+            assertNotEquals(before, after);
+        }
+
+        @Test
+        @DisplayName("Should be empty for an unknown subject")
+        void shouldBeEmptyForUnknownSubject() {
+            assertTrue(subjectRepository.findVersionById(-1L).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Enrollment Version Tests")
+    class EnrollmentVersionTests {
+
+        @Test
+        @DisplayName("Should change the enrollment version when another student joins its subject")
+        void shouldChangeWhenEmbeddedSubjectCountChanges() {
+            Long enrollmentId = enroll(students.get(0)).getId();
+            ResourceVersion before = enrollmentRepository.findVersionById(enrollmentId).orElseThrow();
+
+            enroll(students.get(1));
+
+            ResourceVersion after = enrollmentRepository.findVersionById(enrollmentId).orElseThrow();
+            assertNotEquals(before, after);
+        }
+    }
+
+    @Nested
+    @DisplayName("Collection Version Tests")
+    class CollectionVersionTests {
+
+        @Test
+        @DisplayName("Should change the professor's version when a student enrolls in one of their subjects")
+        void shouldChangeProfessorVersionWhenStudentEnrolls() {
+            Long professorId = subject.getProfessor().getId();
+            ResourceVersion before = subjectRepository.findVersionByProfessorId(professorId);
+
+            enroll(students.get(0));
+
+            assertNotEquals(before, subjectRepository.findVersionByProfessorId(professorId));
+        }
+
+        @Test
+        @DisplayName("Should change the subject's enrollments version when an enrolled student is updated")
+        void shouldChangeSubjectEnrollmentsVersionWhenStudentChanges() {
+            enroll(students.get(0));
+            ResourceVersion before = enrollmentRepository.findVersionBySubjectId(subject.getId());
+
+            StudentEntity student = studentJpaRepository.findById(students.get(0).getId()).orElseThrow();
+            student.setName(student.getName() + " Jr.");
+            studentJpaRepository.saveAndFlush(student);
+
+            assertNotEquals(before, enrollmentRepository.findVersionBySubjectId(subject.getId()));
+        }
+
+        @Test
+        @DisplayName("Should report no version for an unknown professor")
+        void shouldReportNoVersionForUnknownProfessor() {
+            assertEquals(ResourceVersion.NONE, subjectRepository.findVersionByProfessorId(-1L));
+        }
+    }
+}
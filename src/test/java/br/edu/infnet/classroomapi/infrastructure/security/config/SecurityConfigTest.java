@@ -0,0 +1,62 @@
+package br.edu.infnet.classroomapi.infrastructure.security.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("SecurityConfig Tests")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("Actuator Tests")
+    class ActuatorTests {
+
+        @Test
+        @DisplayName("Should expose health without authentication")
+        void shouldExposeHealthWithoutAuthentication() throws Exception {
+            mockMvc.perform(get("/actuator/health"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Should require authentication to scrape Prometheus metrics")
+        void shouldRequireAuthenticationForPrometheus() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should forbid professors from scraping Prometheus metrics")
+        void shouldForbidProfessorsFromPrometheus() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus")
+                            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_PROFESSOR"))))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("Should let administrators scrape Prometheus metrics")
+        void shouldLetAdministratorsScrapePrometheus() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus")
+                            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                    .andExpect(status().isOk());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package br.edu.infnet.classroomapi.infrastructure.security.credentials;
+
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorCredentials;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.security.config.CredentialCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CredentialCache Tests")
+class CredentialCacheTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T08:00:00Z");
+    private static final String EMAIL = "maria.souza@email.com";
+
+    private MutableClock clock;
+    private ProfessorJpaRepository repository;
+    private CredentialCacheProperties properties;
+    private CredentialCache cache;
+    private ProfessorCredentials credentials;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        repository = mock(ProfessorJpaRepository.class);
+        properties = new CredentialCacheProperties();
+        properties.setTimeToLive(Duration.ofSeconds(30));
+        properties.setMaximumSize(2);
+        cache = new CredentialCache(repository, properties, new SimpleMeterRegistry(), clock);
+        credentials = new ProfessorCredentials(1L, EMAIL, "$2a$10$stored", UserRole.PROFESSOR, "Maria Souza");
+        when(repository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.of(credentials));
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should serve repeated logins from the cache until the entry expires")
+        void shouldServeFromCacheUntilExpiry() {
+            cache.findByEmail(EMAIL);
+            clock.set(START.plusSeconds(29));
+            assertEquals(Optional.of(credentials), cache.findByEmail(EMAIL));
+            verify(repository, times(1)).findCredentialsByEmail(EMAIL);
+
+            clock.set(START.plusSeconds(30));
+            cache.findByEmail(EMAIL);
+            verify(repository, times(2)).findCredentialsByEmail(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should not cache unknown emails")
+        void shouldNotCacheUnknownEmails() {
+            when(repository.findCredentialsByEmail("unknown@email.com")).thenReturn(Optional.empty());
+
+            assertTrue(cache.findByEmail("unknown@email.com").isEmpty());
+            assertTrue(cache.findByEmail("unknown@email.com").isEmpty());
+
+            verify(repository, times(2)).findCredentialsByEmail("unknown@email.com");
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache when disabled")
+        void shouldBypassCacheWhenDisabled() {
+            properties.setEnabled(false);
+
+            cache.findByEmail(EMAIL);
+            cache.findByEmail(EMAIL);
+
+            verify(repository, times(2)).findCredentialsByEmail(EMAIL);
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should evict the entry closest to expiring once full")
+        void shouldEvictSoonestExpiringWhenFull() {
+            String[] emails = {"a@email.com", "b@email.com", "c@email.com"};
+            for (int i = 0; i < emails.length; i++) {
+                when(repository.findCredentialsByEmail(emails[i]))
+                        .thenReturn(Optional.of(new ProfessorCredentials(2L + i, emails[i], "hash", UserRole.PROFESSOR, "Prof")));
+                clock.set(START.plusSeconds(i));
+                cache.findByEmail(emails[i]);
+            }
+
+            assertEquals(2, cache.size());
+            cache.findByEmail("c@email.com");
+            cache.findByEmail("a@email.com");
+            verify(repository, times(1)).findCredentialsByEmail("c@email.com");
+            verify(repository, times(2)).findCredentialsByEmail("a@email.com");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should write the new hash and drop the cached entry on password change")
+        void shouldInvalidateOnPasswordChange() {
+            cache.findByEmail(EMAIL);
+
+            cache.updatePassword(credentials, "$2a$12$upgraded");
+            cache.findByEmail(EMAIL);
+
+            verify(repository).updatePassword(eq(1L), eq("$2a$12$upgraded"), any());
+            verify(repository, times(2)).findCredentialsByEmail(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should drop every entry of a professor when invalidated by id")
+        void shouldInvalidateByProfessorId() {
+            cache.findByEmail(EMAIL);
+
+            cache.invalidate(1L);
+
+            assertEquals(0, cache.size());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
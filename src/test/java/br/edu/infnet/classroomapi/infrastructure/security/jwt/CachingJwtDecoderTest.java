@@ -0,0 +1,192 @@
+package br.edu.infnet.classroomapi.infrastructure.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingJwtDecoder Tests")
+class CachingJwtDecoderTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T08:00:00Z");
+
+    private MutableClock clock;
+    private AtomicInteger delegateCalls;
+    private Set<String> rejectedOnHit;
+    private MeterRegistry meterRegistry;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        delegateCalls = new AtomicInteger();
+        rejectedOnHit = new HashSet<>();
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingJwtDecoder(this::verify, jwt -> rejectedOnHit.contains(jwt.getSubject())
+                ? OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Token has been revoked", null))
+                : OAuth2TokenValidatorResult.success(), 2, meterRegistry, clock);
+    }
+
+    private Jwt verify(String token) {
+        delegateCalls.incrementAndGet();
+        Instant expiresAt = START.plus(Duration.ofHours(Long.parseLong(token.substring(token.indexOf('.') + 1))));
+        if (!clock.instant().isBefore(expiresAt)) {
+            throw new BadJwtException("Jwt expired at " + expiresAt);
+        }
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject(token)
+                .issuedAt(START)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(CachingJwtDecoder.REQUESTS_METRIC).tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Cache Hit Tests")
+    class CacheHitTests {
+
+        @Test
+        @DisplayName("Should verify a token once and serve repeats from the cache")
+        void shouldServeRepeatsFromCache() {
+            Jwt first = decoder.decode("a.8");
+            Jwt second = decoder.decode("a.8");
+
+            assertSame(first, second);
+            assertEquals(1, delegateCalls.get());
+            assertEquals(1.0, count("hit"));
+            assertEquals(1.0, count("miss"));
+        }
+
+        @Test
+        @DisplayName("Should re-run the hit validator on every cached decode")
+        void shouldRevalidateCachedTokens() {
+            decoder.decode("a.8");
+            rejectedOnHit.add("a.8");
+
+            assertThrows(JwtValidationException.class, () -> decoder.decode("a.8"));
+            assertEquals(0, decoder.size());
+        }
+
+        @Test
+        @DisplayName("Should not propagate delegate failures into the cache")
+        void shouldNotCacheFailures() {
+            clock.set(START.plus(Duration.ofHours(9)));
+
+            assertThrows(BadJwtException.class, () -> decoder.decode("a.8"));
+            assertThrows(BadJwtException.class, () -> decoder.decode("a.8"));
+
+            assertEquals(2, delegateCalls.get());
+            assertEquals(0, decoder.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiry Tests")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("Should never return a cached token at or past its expiry")
+        void shouldNeverReturnExpiredToken() {
+            decoder.decode("a.1");
+            clock.set(START.plus(Duration.ofHours(1)));
+
+            assertThrows(BadJwtException.class, () -> decoder.decode("a.1"));
+            assertEquals(2, delegateCalls.get());
+            assertEquals(0, decoder.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bound Tests")
+    class BoundTests {
+
+        @Test
+        @DisplayName("Should stay within the maximum size")
+        void shouldStayWithinMaximumSize() {
+            decoder.decode("a.8");
+            decoder.decode("b.8");
+            decoder.decode("c.8");
+
+            assertEquals(2, decoder.size());
+        }
+
+        @Test
+        @DisplayName("Should evict expired entries to make room")
+        void shouldEvictExpiredEntriesToMakeRoom() {
+            decoder.decode("a.1");
+            decoder.decode("b.8");
+            clock.set(START.plus(Duration.ofHours(2)));
+
+            decoder.decode("c.8");
+            decoder.decode("c.8");
+
+            assertEquals(2, decoder.size());
+            assertEquals(3, delegateCalls.get());
+        }
+
+        @Test
+        @DisplayName("Should cache new tokens when full by evicting the one closest to expiry")
+        void shouldEvictClosestToExpiryWhenFull() {
+            decoder.decode("a.4");
+            decoder.decode("b.8");
+
+            decoder.decode("c.6");
+            decoder.decode("c.6");
+            decoder.decode("b.8");
+            decoder.decode("a.4");
+
+            assertEquals(2, decoder.size());
+            assertEquals(4, delegateCalls.get());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
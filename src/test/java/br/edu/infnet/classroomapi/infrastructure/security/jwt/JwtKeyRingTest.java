@@ -0,0 +1,122 @@
+package br.edu.infnet.classroomapi.infrastructure.security.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtKeyRing Tests")
+class JwtKeyRingTest {
+
+    @TempDir
+    private Path directory;
+
+    private static KeyPair keyPair(String algorithm) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+        generator.initialize("RSA".equals(algorithm) ? 2048 : 256);
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(String type, byte[] der) {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+    }
+
+    private void write(String keyId, String content) throws IOException {
+        Files.writeString(directory.resolve(keyId + ".pem"), content);
+    }
+
+    @Nested
+    @DisplayName("PEM Directory Tests")
+    class PemDirectoryTests {
+
+        @Test
+        @DisplayName("Should sign with the active key and verify with every key in the directory")
+        void shouldSignWithActiveKeyAndVerifyWithAll() throws Exception {
+            KeyPair previous = keyPair("RSA");
+            KeyPair current = keyPair("RSA");
+            write("2025-01", pem("PUBLIC KEY", previous.getPublic().getEncoded()));
+            write("2025-02", pem("PRIVATE KEY", current.getPrivate().getEncoded())
+                    + pem("PUBLIC KEY", current.getPublic().getEncoded()));
+
+            JwtKeyRing keyRing = JwtKeyRing.load(directory, "2025-02", JwtSigningAlgorithm.RS256);
+
+            assertEquals("2025-02", keyRing.getSigningKey().getKeyID());
+            assertTrue(keyRing.getSigningKey().isPrivate());
+            assertEquals(List.of("2025-01", "2025-02"),
+                    keyRing.getVerificationKeys().getKeys().stream().map(JWK::getKeyID).toList());
+            assertTrue(keyRing.getVerificationKeys().getKeys().stream().noneMatch(JWK::isPrivate));
+        }
+
+        @Test
+        @DisplayName("Should derive the RSA public key when only the private key is present")
+        void shouldDeriveRsaPublicKey() throws Exception {
+            KeyPair pair = keyPair("RSA");
+            write("only-private", pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+
+            JwtKeyRing keyRing = JwtKeyRing.load(directory, null, JwtSigningAlgorithm.RS256);
+
+            assertEquals("only-private", keyRing.getSigningKey().getKeyID());
+            assertEquals(pair.getPublic(), keyRing.getSigningKey().toRSAKey().toPublicKey());
+        }
+
+        @Test
+        @DisplayName("Should load EC keys for ES256")
+        void shouldLoadEcKeys() throws Exception {
+            KeyPair pair = keyPair("EC");
+            write("ec", pem("PRIVATE KEY", pair.getPrivate().getEncoded()) + pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+
+            JwtKeyRing keyRing = JwtKeyRing.load(directory, null, JwtSigningAlgorithm.ES256);
+
+            assertEquals("EC", keyRing.getSigningKey().getKeyType().getValue());
+        }
+
+        @Test
+        @DisplayName("Should require an active key id when several private keys are present")
+        void shouldRequireActiveKeyIdWithSeveralPrivateKeys() throws Exception {
+            write("a", pem("PRIVATE KEY", keyPair("RSA").getPrivate().getEncoded()));
+            write("b", pem("PRIVATE KEY", keyPair("RSA").getPrivate().getEncoded()));
+
+            assertThrows(IllegalStateException.class, () -> JwtKeyRing.load(directory, null, JwtSigningAlgorithm.RS256));
+            assertThrows(IllegalStateException.class, () -> JwtKeyRing.load(directory, "c", JwtSigningAlgorithm.RS256));
+        }
+
+        @Test
+        @DisplayName("Should fail when the directory has no keys")
+        void shouldFailWhenDirectoryHasNoKeys() {
+            assertThrows(IllegalStateException.class, () -> JwtKeyRing.load(directory, null, JwtSigningAlgorithm.RS256));
+        }
+    }
+
+    @Nested
+    @DisplayName("JWKS Tests")
+    class JwksTests {
+
+        @Test
+        @DisplayName("Should publish only public key material")
+        @SuppressWarnings("unchecked")
+        void shouldPublishOnlyPublicKeyMaterial() {
+            JwtKeyRing keyRing = JwtKeyRing.generate(JwtSigningAlgorithm.RS256);
+
+            Map<String, Object> jwks = keyRing.toPublicJson();
+            List<Map<String, Object>> keys = (List<Map<String, Object>>) jwks.get("keys");
+
+            assertEquals(1, keys.size());
+            assertEquals(keyRing.getSigningKey().getKeyID(), keys.get(0).get("kid"));
+            assertFalse(keys.get(0).containsKey("d"));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package br.edu.infnet.classroomapi.infrastructure.security.refresh;
+
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.infrastructure.security.config.RefreshTokenProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.services.ProfessorInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T10:00:00Z");
+
+    private final ProfessorInfo professor = ProfessorInfo.builder()
+            .id(1L)
+            .name("Maria Souza")
+            .email("maria.souza@email.com")
+            .role(UserRole.PROFESSOR)
+            .build();
+
+    private MutableClock clock;
+    private InMemoryRefreshTokenStore store;
+    private MeterRegistry meterRegistry;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        store = new InMemoryRefreshTokenStore();
+        meterRegistry = new SimpleMeterRegistry();
+        service = new RefreshTokenService(store, new RefreshTokenProperties(), clock, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Rotation Tests")
+    class RotationTests {
+
+        @Test
+        @DisplayName("Should exchange a refresh token for a new one carrying the same professor")
+        void shouldRotateToken() {
+            String first = service.issue(professor);
+
+            RefreshTokenService.Rotation rotation = service.rotate(first);
+
+            assertNotEquals(first, rotation.refreshToken());
+            assertSame(professor, rotation.professor());
+            assertNotNull(service.rotate(rotation.refreshToken()));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown tokens")
+        void shouldRejectUnknownTokens() {
+            assertThrows(BadCredentialsException.class, () -> service.rotate("unknown"));
+        }
+
+        @Test
+        @DisplayName("Should reject expired tokens")
+        void shouldRejectExpiredTokens() {
+            String token = service.issue(professor);
+            clock.set(START.plus(Duration.ofDays(7)));
+
+            assertThrows(BadCredentialsException.class, () -> service.rotate(token));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reuse Detection Tests")
+    class ReuseDetectionTests {
+
+        @Test
+        @DisplayName("Should revoke the whole family when a rotated token is presented again")
+        void shouldRevokeFamilyOnReuse() {
+            String first = service.issue(professor);
+            String second = service.rotate(first).refreshToken();
+
+            assertThrows(BadCredentialsException.class, () -> service.rotate(first));
+            assertThrows(BadCredentialsException.class, () -> service.rotate(second));
+            assertEquals(1.0, meterRegistry.get(RefreshTokenService.REUSE_METRIC).counter().count());
+        }
+
+        @Test
+        @DisplayName("Should leave other sessions of the same professor untouched")
+        void shouldKeepOtherFamilies() {
+            String stolen = service.issue(professor);
+            String otherDevice = service.issue(professor);
+            service.rotate(stolen);
+
+            assertThrows(BadCredentialsException.class, () -> service.rotate(stolen));
+            assertNotNull(service.rotate(otherDevice));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sweep Tests")
+    class SweepTests {
+
+        @Test
+        @DisplayName("Should remove expired tokens from the store")
+        void shouldRemoveExpiredTokens() {
+            service.issue(professor);
+            clock.set(START.plus(Duration.ofDays(1)));
+            service.issue(professor);
+            clock.set(START.plus(Duration.ofDays(7)));
+
+            service.sweepExpired();
+
+            assertEquals(1, store.size());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package br.edu.infnet.classroomapi.infrastructure.security.revocation;
+
+import br.edu.infnet.classroomapi.infrastructure.security.config.TokenRevocationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T10:00:00Z");
+
+    private MutableClock clock;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        service = new TokenRevocationService(new TokenRevocationProperties(), clock, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Token Id Tests")
+    class TokenIdTests {
+
+        @Test
+        @DisplayName("Should report revoked token ids and nothing else")
+        void shouldReportRevokedTokenIds() {
+            service.revokeToken("revoked", START.plus(Duration.ofHours(1)));
+
+            assertTrue(service.isRevoked("revoked", 1L, START));
+            assertFalse(service.isRevoked("active", 1L, START));
+            assertFalse(service.isRevoked(null, null, null));
+        }
+
+        @Test
+        @DisplayName("Should drop expired revocations and keep live ones after a sweep")
+        void shouldSweepExpiredRevocations() {
+            service.revokeToken("short", START.plus(Duration.ofMinutes(10)));
+            service.revokeToken("long", START.plus(Duration.ofHours(8)));
+            clock.set(START.plus(Duration.ofHours(1)));
+
+            service.sweepExpired();
+
+            assertFalse(service.isRevoked("short", 1L, START));
+            assertTrue(service.isRevoked("long", 1L, START));
+        }
+    }
+
+    @Nested
+    @DisplayName("Not-Before Tests")
+    class NotBeforeTests {
+
+        @Test
+        @DisplayName("Should reject tokens issued up to the revoke-all instant for that professor only")
+        void shouldApplyNotBeforePerProfessor() {
+            clock.set(START.plusMillis(400));
+            service.revokeAllForProfessor(1L);
+
+            assertTrue(service.isRevoked("a", 1L, START.minusSeconds(60)));
+            assertTrue(service.isRevoked("a", 1L, START));
+            assertFalse(service.isRevoked("a", 1L, START.plusSeconds(1)));
+            assertFalse(service.isRevoked("a", 2L, START.minusSeconds(60)));
+        }
+
+        @Test
+        @DisplayName("Should forget the cutoff once every older access token has expired")
+        void shouldForgetCutoffAfterAccessTokenLifetime() {
+            service.revokeAllForProfessor(1L);
+            clock.set(START.plus(Duration.ofHours(8)));
+
+            service.sweepExpired();
+
+            assertFalse(service.isRevoked("a", 1L, START.minusSeconds(60)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bloom Filter Tests")
+    class BloomFilterTests {
+
+        @Test
+        @DisplayName("Should never miss an inserted value and keep false positives near the target rate")
+        void shouldHaveNoFalseNegatives() {
+            RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.put("revoked-" + i);
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain("revoked-" + i));
+            }
+            long falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain(UUID.randomUUID().toString())) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
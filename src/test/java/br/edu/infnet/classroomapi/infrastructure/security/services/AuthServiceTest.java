@@ -0,0 +1,207 @@
+package br.edu.infnet.classroomapi.infrastructure.security.services;
+
+import br.edu.infnet.classroomapi.domain.entities.Professor;
+import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.domain.repositories.ProfessorRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.ProfessorCredentials;
+import br.edu.infnet.classroomapi.infrastructure.security.credentials.CredentialCache;
+import br.edu.infnet.classroomapi.infrastructure.security.refresh.RefreshTokenService;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService Tests")
+class AuthServiceTest {
+
+    @Mock
+    private ProfessorRepository professorRepository;
+
+    @Mock
+    private CredentialCache credentialCache;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private Professor professor;
+    private ProfessorCredentials credentials;
+
+    @BeforeEach
+    void setUp() {
+        professor = new Professor("Maria Souza", "maria.souza@email.com", "$2a$04$stored");
+        professor.setId(1L);
+        credentials = new ProfessorCredentials(1L, "maria.souza@email.com", "$2a$04$stored", UserRole.PROFESSOR, "Maria Souza");
+    }
+
+    @Nested
+    @DisplayName("Login Tests")
+    class LoginTests {
+
+        @Test
+        @DisplayName("Should issue tokens from the credential projection without re-hashing a current password")
+        void shouldIssueTokensWithoutRehash() {
+            when(credentialCache.findByEmail("maria.souza@email.com")).thenReturn(Optional.of(credentials));
+            when(passwordHashingService.matches("secret123", "$2a$04$stored")).thenReturn(true);
+            when(passwordHashingService.upgradeEncoding("$2a$04$stored")).thenReturn(false);
+            when(jwtTokenService.generateToken(any(ProfessorInfo.class))).thenReturn("access");
+            when(refreshTokenService.issue(any(ProfessorInfo.class))).thenReturn("refresh");
+
+            AuthResponse response = authService.login("maria.souza@email.com", "secret123");
+
+            assertEquals("access", response.getAccessToken());
+            assertEquals("refresh", response.getRefreshToken());
+            assertEquals(1L, response.getProfessor().getId());
+            assertEquals(UserRole.PROFESSOR, response.getProfessor().getRole());
+            verify(passwordHashingService, never()).encode(anyString());
+            verify(credentialCache, never()).updatePassword(any(), anyString());
+            verifyNoInteractions(professorRepository);
+        }
+
+        @Test
+        @DisplayName("Should re-hash the password when the work factor has increased")
+        void shouldRehashWhenWorkFactorIncreased() {
+            when(credentialCache.findByEmail("maria.souza@email.com")).thenReturn(Optional.of(credentials));
+            when(passwordHashingService.matches("secret123", "$2a$04$stored")).thenReturn(true);
+            when(passwordHashingService.upgradeEncoding("$2a$04$stored")).thenReturn(true);
+            when(passwordHashingService.encode("secret123")).thenReturn("$2a$12$upgraded");
+
+            authService.login("maria.souza@email.com", "secret123");
+
+            verify(credentialCache).updatePassword(credentials, "$2a$12$upgraded");
+            verifyNoInteractions(professorRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a wrong password")
+        void shouldRejectWrongPassword() {
+            when(credentialCache.findByEmail("maria.souza@email.com")).thenReturn(Optional.of(credentials));
+            when(passwordHashingService.matches("wrong", "$2a$04$stored")).thenReturn(false);
+
+            assertThrows(BadCredentialsException.class, () -> authService.login("maria.souza@email.com", "wrong"));
+            verify(jwtTokenService, never()).generateToken(any(ProfessorInfo.class));
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown email")
+        void shouldRejectUnknownEmail() {
+            when(credentialCache.findByEmail("unknown@email.com")).thenReturn(Optional.empty());
+
+            assertThrows(BadCredentialsException.class, () -> authService.login("unknown@email.com", "secret123"));
+            verifyNoInteractions(passwordHashingService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Register Tests")
+    class RegisterTests {
+
+        @Test
+        @DisplayName("Should hash once and issue tokens without verifying again")
+        void shouldHashOnceAndIssueTokens() {
+            when(professorRepository.existsByEmail("maria.souza@email.com")).thenReturn(false);
+            when(passwordHashingService.encode("secret123")).thenReturn("$2a$10$new");
+            when(professorRepository.save(any(Professor.class))).thenAnswer(invocation -> {
+                Professor saved = invocation.getArgument(0);
+                saved.setId(2L);
+                return saved;
+            });
+            when(jwtTokenService.generateToken(any(ProfessorInfo.class))).thenReturn("access");
+
+            AuthResponse response = authService.register("Maria Souza", "maria.souza@email.com", "secret123");
+
+            assertEquals("access", response.getAccessToken());
+            assertEquals(2L, response.getProfessor().getId());
+            verify(passwordHashingService, times(1)).encode("secret123");
+            verify(passwordHashingService, never()).matches(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject a duplicate email before hashing")
+        void shouldRejectDuplicateEmail() {
+            when(professorRepository.existsByEmail("maria.souza@email.com")).thenReturn(true);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> authService.register("Maria Souza", "maria.souza@email.com", "secret123"));
+            verify(passwordHashingService, never()).encode(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should rotate the refresh token and sign one access token")
+        void shouldRotateAndSignAccessToken() {
+            ProfessorInfo info = ProfessorInfo.builder().id(1L).name("Maria Souza").email("maria.souza@email.com").build();
+            when(refreshTokenService.rotate("old")).thenReturn(new RefreshTokenService.Rotation(info, "new"));
+            when(jwtTokenService.generateToken(info)).thenReturn("access");
+
+            AuthResponse response = authService.refreshToken("old");
+
+            assertEquals("access", response.getAccessToken());
+            assertEquals("new", response.getRefreshToken());
+            assertSame(info, response.getProfessor());
+            verifyNoInteractions(professorRepository, passwordHashingService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Revocation Tests")
+    class RevocationTests {
+
+        @Test
+        @DisplayName("Should revoke the access token jti and the refresh token family on logout")
+        void shouldRevokeOnLogout() {
+            Instant expiresAt = Instant.parse("2025-03-01T18:00:00Z");
+            Jwt jwt = Jwt.withTokenValue("access")
+                    .header("alg", "RS256")
+                    .jti("jti-1")
+                    .expiresAt(expiresAt)
+                    .build();
+
+            authService.logout(jwt, "refresh");
+
+            verify(tokenRevocationService).revokeToken("jti-1", expiresAt);
+            verify(refreshTokenService).revoke("refresh");
+        }
+
+        @Test
+        @DisplayName("Should cut off access and refresh tokens when revoking all sessions")
+        void shouldRevokeAllSessions() {
+            authService.revokeAllSessions(1L);
+
+            verify(tokenRevocationService).revokeAllForProfessor(1L);
+            verify(refreshTokenService).revokeAllForProfessor(1L);
+            verify(credentialCache).invalidate(1L);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package br.edu.infnet.classroomapi.infrastructure.security.services;
+
+import br.edu.infnet.classroomapi.domain.entities.Professor;
+import br.edu.infnet.classroomapi.infrastructure.security.config.JwtConfig;
+import br.edu.infnet.classroomapi.infrastructure.security.config.JwtProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.config.TokenRevocationProperties;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtKeyRing;
+import br.edu.infnet.classroomapi.infrastructure.security.jwt.JwtSigningAlgorithm;
+import br.edu.infnet.classroomapi.infrastructure.security.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtTokenService Tests")
+class JwtTokenServiceTest {
+
+    private final JwtConfig jwtConfig = new JwtConfig();
+    private final TokenRevocationService revocationService = new TokenRevocationService(
+            new TokenRevocationProperties(), Clock.systemUTC(), new SimpleMeterRegistry());
+
+    private static Professor professor() {
+        Professor professor = new Professor("Maria Souza", "maria.souza@email.com", "encoded");
+        professor.setId(7L);
+        return professor;
+    }
+
+    private JwtProperties properties(JwtSigningAlgorithm algorithm) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.getCache().setEnabled(false);
+        return properties;
+    }
+
+    private JwtDecoder decoder(JwtKeyRing keyRing, JwtProperties properties) {
+        return jwtConfig.jwtDecoder(keyRing, properties, revocationService, new SimpleMeterRegistry());
+    }
+
+    private void assertRoundTrip(JwtSigningAlgorithm algorithm) {
+        JwtProperties properties = properties(algorithm);
+        JwtKeyRing keyRing = jwtConfig.jwtKeyRing(properties);
+        JwtTokenService service = new JwtTokenService(jwtConfig.jwtEncoder(jwtConfig.jwkSource(keyRing)), properties);
+
+        Jwt jwt = decoder(keyRing, properties).decode(service.generateToken(professor()));
+
+        assertEquals(algorithm.name(), jwt.getHeaders().get("alg"));
+        assertEquals(keyRing.getSigningKey().getKeyID(), jwt.getHeaders().get("kid"));
+        assertEquals("maria.souza@email.com", jwt.getSubject());
+        assertEquals(7L, ((Number) jwt.getClaim("professorId")).longValue());
+        assertEquals("PROFESSOR", jwt.getClaimAsString("roles"));
+    }
+
+    @Nested
+    @DisplayName("Signing Algorithm Tests")
+    class SigningAlgorithmTests {
+
+        @Test
+        @DisplayName("Should sign and verify tokens with RS256")
+        void shouldRoundTripWithRs256() {
+            assertRoundTrip(JwtSigningAlgorithm.RS256);
+        }
+
+        @Test
+        @DisplayName("Should sign and verify tokens with ES256")
+        void shouldRoundTripWithEs256() {
+            assertRoundTrip(JwtSigningAlgorithm.ES256);
+        }
+
+        @Test
+        @DisplayName("Should reject tokens signed with another algorithm")
+        void shouldRejectTokensSignedWithAnotherAlgorithm() {
+            JwtProperties ecProperties = properties(JwtSigningAlgorithm.ES256);
+            JwtKeyRing ecKeyRing = jwtConfig.jwtKeyRing(ecProperties);
+            JwtTokenService ecService = new JwtTokenService(jwtConfig.jwtEncoder(jwtConfig.jwkSource(ecKeyRing)), ecProperties);
+            String token = ecService.generateToken(professor());
+
+            JwtProperties rsaProperties = properties(JwtSigningAlgorithm.RS256);
+            JwtDecoder rsaDecoder = decoder(jwtConfig.jwtKeyRing(rsaProperties), rsaProperties);
+
+            assertThrows(JwtException.class, () -> rsaDecoder.decode(token));
+        }
+    }
+
+    @Nested
+    @DisplayName("Revocation Tests")
+    class RevocationTests {
+
+        @Test
+        @DisplayName("Should reject a token whose jti has been revoked")
+        void shouldRejectRevokedJti() {
+            JwtProperties properties = properties(JwtSigningAlgorithm.RS256);
+            properties.getCache().setEnabled(true);
+            JwtKeyRing keyRing = jwtConfig.jwtKeyRing(properties);
+            JwtTokenService service = new JwtTokenService(jwtConfig.jwtEncoder(jwtConfig.jwkSource(keyRing)), properties);
+            JwtDecoder decoder = decoder(keyRing, properties);
+            String token = service.generateToken(professor());
+
+            Jwt jwt = decoder.decode(token);
+            assertNotNull(jwt.getId());
+            revocationService.revokeToken(jwt.getId(), jwt.getExpiresAt());
+
+            assertThrows(JwtException.class, () -> decoder.decode(token));
+        }
+
+        @Test
+        @DisplayName("Should reject tokens issued before a revoke-all for the professor")
+        void shouldRejectTokensIssuedBeforeRevokeAll() {
+            JwtProperties properties = properties(JwtSigningAlgorithm.RS256);
+            JwtKeyRing keyRing = jwtConfig.jwtKeyRing(properties);
+            JwtTokenService service = new JwtTokenService(jwtConfig.jwtEncoder(jwtConfig.jwkSource(keyRing)), properties);
+            String token = service.generateToken(professor());
+
+            revocationService.revokeAllForProfessor(7L);
+
+            assertThrows(JwtException.class, () -> decoder(keyRing, properties).decode(token));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.edu.infnet.classroomapi.infrastructure.security.services;
+
+import br.edu.infnet.classroomapi.infrastructure.persistence.projections.SubjectOwner;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OwnershipService Tests")
+class OwnershipServiceTest {
+
+    private SubjectJpaRepository subjectRepository;
+    private EnrollmentJpaRepository enrollmentRepository;
+    private OwnershipService ownershipService;
+
+    @BeforeEach
+    void setUp() {
+        subjectRepository = mock(SubjectJpaRepository.class);
+        enrollmentRepository = mock(EnrollmentJpaRepository.class);
+        ownershipService = new OwnershipService(subjectRepository, enrollmentRepository, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Subject Ownership Tests")
+    class SubjectOwnershipTests {
+
+        @Test
+        @DisplayName("Should answer from the warmed map without querying")
+        void shouldAnswerFromWarmedMap() {
+            when(subjectRepository.findAllOwners()).thenReturn(List.of(owner(10L, 1L), owner(11L, 2L)));
+            ownershipService.warmUp();
+
+            assertTrue(ownershipService.ownsSubject(1L, 10L));
+            assertFalse(ownershipService.ownsSubject(1L, 11L));
+            verify(subjectRepository, never()).existsByIdAndProfessorId(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should fall back to an EXISTS query on a miss and remember a positive answer")
+        void shouldFallBackToExistsOnMiss() {
+            when(subjectRepository.existsByIdAndProfessorId(10L, 1L)).thenReturn(true);
+
+            assertTrue(ownershipService.ownsSubject(1L, 10L));
+            assertTrue(ownershipService.ownsSubject(1L, 10L));
+            assertFalse(ownershipService.ownsSubject(2L, 10L));
+
+            verify(subjectRepository, times(1)).existsByIdAndProfessorId(10L, 1L);
+            verify(subjectRepository, never()).existsByIdAndProfessorId(10L, 2L);
+        }
+
+        @Test
+        @DisplayName("Should follow subject writes and professor removal")
+        void shouldFollowSubjectWrites() {
+            ownershipService.subjectSaved(10L, 1L);
+            ownershipService.subjectSaved(11L, 1L);
+            assertTrue(ownershipService.ownsSubject(1L, 10L));
+
+            ownershipService.subjectDeleted(10L);
+            assertFalse(ownershipService.ownsSubject(1L, 10L));
+            verify(subjectRepository).existsByIdAndProfessorId(10L, 1L);
+
+            ownershipService.professorDeleted(1L);
+            assertFalse(ownershipService.ownsSubject(1L, 11L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Enrollment Ownership Tests")
+    class EnrollmentOwnershipTests {
+
+        @Test
+        @DisplayName("Should check enrollment ownership with an EXISTS query")
+        void shouldCheckEnrollmentOwnership() {
+            when(enrollmentRepository.existsByIdAndSubjectProfessorId(5L, 1L)).thenReturn(true);
+
+            assertTrue(ownershipService.ownsEnrollment(1L, 5L));
+            assertFalse(ownershipService.ownsEnrollment(2L, 5L));
+            assertFalse(ownershipService.ownsEnrollment(null, 5L));
+        }
+    }
+
+    private static SubjectOwner owner(Long subjectId, Long professorId) {
+        return new SubjectOwner() {
+            @Override
+            public Long getSubjectId() {
+                return subjectId;
+            }
+
+            @Override
+            public Long getProfessorId() {
+                return professorId;
+            }
+        };
+    }
+}
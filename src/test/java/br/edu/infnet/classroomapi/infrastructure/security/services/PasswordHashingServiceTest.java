@@ -0,0 +1,122 @@
+package br.edu.infnet.classroomapi.infrastructure.security.services;
+
+import br.edu.infnet.classroomapi.infrastructure.security.config.PasswordHashingProperties;
+import br.edu.infnet.classroomapi.infrastructure.web.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordHashingService Tests")
+class PasswordHashingServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+
+    @Nested
+    @DisplayName("Hashing Tests")
+    class HashingTests {
+
+        @Test
+        @DisplayName("Should encode and verify passwords on the hashing executor")
+        void shouldEncodeAndVerifyPasswords() {
+            service = new PasswordHashingService(new BCryptPasswordEncoder(4),
+                    properties(1, 4, Duration.ofSeconds(5)), meterRegistry);
+
+            String encoded = service.encode("secret123");
+
+            assertTrue(service.matches("secret123", encoded));
+            assertFalse(service.matches("wrong", encoded));
+        }
+
+        @Test
+        @DisplayName("Should flag hashes below the configured work factor for upgrade")
+        void shouldFlagWeakerHashesForUpgrade() {
+            String weak = new BCryptPasswordEncoder(4).encode("secret123");
+            service = new PasswordHashingService(new BCryptPasswordEncoder(5),
+                    properties(1, 4, Duration.ofSeconds(5)), meterRegistry);
+
+            assertTrue(service.upgradeEncoding(weak));
+            assertFalse(service.upgradeEncoding(service.encode("secret123")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Saturation Tests")
+    class SaturationTests {
+
+        @Test
+        @DisplayName("Should reject immediately when workers and queue are full")
+        void shouldRejectWhenSaturated() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            service = new PasswordHashingService(blockingEncoder(started, release),
+                    properties(1, 0, Duration.ofSeconds(5)), meterRegistry);
+
+            CompletableFuture<Boolean> inFlight = CompletableFuture.supplyAsync(() -> service.matches("a", "b"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ServiceUnavailableException.class, () -> service.matches("c", "d"));
+            assertEquals(1.0, meterRegistry.get(PasswordHashingService.REJECTED_METRIC).counter().count());
+
+            release.countDown();
+            assertTrue(inFlight.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should give up with 503 when the work does not finish in time")
+        void shouldTimeOutSlowWork() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            service = new PasswordHashingService(blockingEncoder(started, release),
+                    properties(1, 1, Duration.ofMillis(50)), meterRegistry);
+
+            assertThrows(ServiceUnavailableException.class, () -> service.matches("a", "b"));
+            release.countDown();
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+}
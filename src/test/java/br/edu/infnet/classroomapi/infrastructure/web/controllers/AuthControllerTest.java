@@ -159,7 +159,7 @@ class AuthControllerTest {
         @Test
         @DisplayName("Should register professor successfully")
         void shouldRegisterProfessorSuccessfully() throws Exception {
-            when(authService.login(anyString(), anyString())).thenReturn(authResponse);
+            when(authService.register(anyString(), anyString(), anyString())).thenReturn(authResponse);
 
             mockMvc.perform(post("/api/v1/auth/register")
                     .contentType(MediaType.APPLICATION_JSON)
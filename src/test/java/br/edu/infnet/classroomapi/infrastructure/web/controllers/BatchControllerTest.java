@@ -0,0 +1,191 @@
+package br.edu.infnet.classroomapi.infrastructure.web.controllers;
+
+import br.edu.infnet.classroomapi.application.dto.request.BatchOperationRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.request.BatchRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.request.CreateStudentRequestDTO;
+import br.edu.infnet.classroomapi.application.dto.response.StudentResponseDTO;
+import br.edu.infnet.classroomapi.application.dto.response.StudentSummaryDTO;
+import br.edu.infnet.classroomapi.application.services.StudentApplicationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("BatchController Tests")
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StudentApplicationService studentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private StudentResponseDTO studentResponse;
+
+    @BeforeEach
+    void setUp() {
+        studentResponse = StudentResponseDTO.builder()
+            .id(1L)
+            .name("João Silva")
+            .cpf("12345678901")
+            .email("joao@email.com")
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private String batch(BatchOperationRequestDTO... operations) throws Exception {
+        return objectMapper.writeValueAsString(new BatchRequestDTO(List.of(operations)));
+    }
+
+    private static BatchOperationRequestDTO get(String id, String path) {
+        return BatchOperationRequestDTO.builder().id(id).method("GET").path(path).build();
+    }
+
+    @Nested
+    @DisplayName("Dispatch Tests")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Should run every sub-request and keep their order")
+        void shouldRunEverySubRequestInOrder() throws Exception {
+            StudentSummaryDTO summary = StudentSummaryDTO.builder().id(1L).name("João Silva").email("joao@email.com").build();
+            when(studentService.findById(1L)).thenReturn(studentResponse);
+            when(studentService.findAllSummary()).thenReturn(List.of(summary));
+
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(batch(get("student", "/v1/students/1"), get("summary", "/api/v1/students/summary"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.responses.length()").value(2))
+                    .andExpect(jsonPath("$.data.responses[0].id").value("student"))
+                    .andExpect(jsonPath("$.data.responses[0].status").value(200))
+                    .andExpect(jsonPath("$.data.responses[0].headers.ETag").exists())
+                    .andExpect(jsonPath("$.data.responses[0].body.data.name").value("João Silva"))
+                    .andExpect(jsonPath("$.data.responses[1].id").value("summary"))
+                    .andExpect(jsonPath("$.data.responses[1].body.data[0].email").value("joao@email.com"));
+        }
+
+        @Test
+        @DisplayName("Should pass the body of a write through to the controller")
+        void shouldPassBodyOfWrite() throws Exception {
+            when(studentService.createStudent(any(CreateStudentRequestDTO.class))).thenReturn(studentResponse);
+            BatchOperationRequestDTO create = BatchOperationRequestDTO.builder()
+                .id("create")
+                .method("POST")
+                .path("/v1/students")
+                .body(objectMapper.valueToTree(Map.of(
+                    "name", "João Silva", "cpf", "12345678901", "email", "joao@email.com")))
+                .build();
+
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(batch(create)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.responses[0].status").value(201))
+                    .andExpect(jsonPath("$.data.responses[0].body.data.id").value(1));
+        }
+
+        @Test
+        @DisplayName("Should report a failed sub-request without failing the batch")
+        void shouldReportFailedSubRequest() throws Exception {
+            when(studentService.findById(99L)).thenThrow(new RuntimeException("Student not found with id: 99"));
+
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(batch(get("missing", "/v1/students/99"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.responses[0].status").value(500))
+                    .andExpect(jsonPath("$.data.responses[0].body.error.message").value("Student not found with id: 99"));
+        }
+
+        @Test
+        @DisplayName("Should reject nested batches")
+        void shouldRejectNestedBatches() throws Exception {
+            BatchOperationRequestDTO nested = BatchOperationRequestDTO.builder()
+                .id("nested").method("POST").path("/v1/batch").build();
+
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(batch(nested)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.responses[0].status").value(400));
+        }
+
+        @Test
+        @DisplayName("Should reject sub-requests carrying an Idempotency-Key")
+        void shouldRejectIdempotencyKeyOnSubRequest() throws Exception {
+            BatchOperationRequestDTO create = BatchOperationRequestDTO.builder()
+                .id("create")
+                .method("POST")
+                .path("/v1/students")
+                .headers(Map.of("Idempotency-Key", "create-joao"))
+                .body(objectMapper.valueToTree(Map.of(
+                    "name", "João Silva", "cpf", "12345678901", "email", "joao@email.com")))
+                .build();
+
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(batch(create)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.responses[0].status").value(400))
+                    .andExpect(jsonPath("$.data.responses[0].body.error.message")
+                        .value("Idempotency-Key is only honoured on the batch request itself"));
+            verifyNoInteractions(studentService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject batches over the configured size")
+        void shouldRejectOversizedBatch() throws Exception {
+            List<BatchOperationRequestDTO> operations = new ArrayList<>(Collections.nCopies(21, get("student", "/v1/students/1")));
+
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new BatchRequestDTO(operations))))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should reject sub-requests with a relative path")
+        void shouldRejectRelativePath() throws Exception {
+            mockMvc.perform(post("/api/v1/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(batch(get("student", "v1/students/1"))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
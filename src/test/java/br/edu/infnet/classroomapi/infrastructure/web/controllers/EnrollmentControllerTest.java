@@ -1,11 +1,14 @@
 package br.edu.infnet.classroomapi.infrastructure.web.controllers;
 
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
 import br.edu.infnet.classroomapi.application.dto.request.AssignGradeRequestDTO;
 import br.edu.infnet.classroomapi.application.dto.request.CreateEnrollmentRequestDTO;
 import br.edu.infnet.classroomapi.application.dto.response.*;
 import br.edu.infnet.classroomapi.application.services.EnrollmentApplicationService;
 import br.edu.infnet.classroomapi.domain.enums.EnrollmentStatus;
 import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+import br.edu.infnet.classroomapi.infrastructure.web.etag.ETags;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,10 +27,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +42,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
 @DisplayName("EnrollmentController Tests")
 class EnrollmentControllerTest {
 
@@ -53,6 +62,8 @@ class EnrollmentControllerTest {
     private AddressResponseDTO addressResponse;
     private SubjectResponseDTO subjectResponse;
     private ProfessorResponseDTO professorResponse;
+    private final ChangeVersion version =
+        new ChangeVersion("professor-1", new ResourceVersion(LocalDateTime.of(2026, 1, 5, 10, 0), 3L));
 
     @BeforeEach
     void setUp() {
@@ -221,6 +232,7 @@ class EnrollmentControllerTest {
         @DisplayName("Should find enrollments by subject successfully")
         void shouldFindEnrollmentsBySubjectSuccessfully() throws Exception {
             List<EnrollmentResponseDTO> enrollments = Arrays.asList(enrollmentResponse);
+            when(enrollmentService.findSubjectVersion(1L)).thenReturn(version);
             when(enrollmentService.findBySubjectId(1L)).thenReturn(enrollments);
 
             mockMvc.perform(get("/api/v1/enrollments/subject/1"))
@@ -234,15 +246,31 @@ class EnrollmentControllerTest {
         @DisplayName("Should find enrollments for my subjects successfully")
         void shouldFindEnrollmentsForMySubjectsSuccessfully() throws Exception {
             List<EnrollmentResponseDTO> enrollments = Arrays.asList(enrollmentResponse);
+            when(enrollmentService.findCurrentProfessorVersion()).thenReturn(version);
             when(enrollmentService.findByCurrentProfessorSubjects()).thenReturn(enrollments);
 
             mockMvc.perform(get("/api/v1/enrollments/my-subjects"))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data[0].id").value(1L));
         }
 
+        @Test
+        @DisplayName("Should answer 304 for unchanged enrollments of my subjects without listing them")
+        void shouldReturnNotModifiedForUnchangedMySubjectEnrollments() throws Exception {
+            when(enrollmentService.findCurrentProfessorVersion()).thenReturn(version);
+
+            String etag = mockMvc.perform(get("/api/v1/enrollments/my-subjects"))
+                .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/v1/enrollments/my-subjects").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+            verify(enrollmentService, times(1)).findByCurrentProfessorSubjects();
+        }
+
         @Test
         @DisplayName("Should find enrollments by status successfully")
         void shouldFindEnrollmentsByStatusSuccessfully() throws Exception {
@@ -292,6 +320,80 @@ class EnrollmentControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data[0].approved").value(false));
         }
+
+        @Test
+        @DisplayName("Should side-load students and subjects when the normalized view is requested")
+        void shouldFindEnrollmentsBySubjectNormalized() throws Exception {
+            NormalizedEnrollmentDTO normalizedEnrollment = NormalizedEnrollmentDTO.builder()
+                .id(1L)
+                .studentId(1L)
+                .subjectId(1L)
+                .approved(true)
+                .grade(BigDecimal.valueOf(8.5))
+                .status(EnrollmentStatus.ACTIVE)
+                .build();
+            NormalizedEnrollmentListDTO normalized = NormalizedEnrollmentListDTO.builder()
+                .enrollments(List.of(normalizedEnrollment))
+                .included(new IncludedResourcesDTO(List.of(studentResponse), List.of(subjectResponse)))
+                .build();
+            when(enrollmentService.findBySubjectIdNormalized(1L)).thenReturn(normalized);
+
+            mockMvc.perform(get("/api/v1/enrollments/subject/1").param("view", "normalized"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.enrollments[0].studentId").value(1L))
+                .andExpect(jsonPath("$.data.enrollments[0].subjectId").value(1L))
+                .andExpect(jsonPath("$.data.enrollments[0].subject").doesNotExist())
+                .andExpect(jsonPath("$.data.included.students[0].name").value("João Silva"))
+                .andExpect(jsonPath("$.data.included.subjects[0].name").value("Java Programming"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional Get Tests")
+    class ConditionalGetTests {
+
+        private final ResourceVersion resourceVersion =
+            ResourceVersion.of(5L, 3, LocalDateTime.of(2026, 1, 5, 10, 0), LocalDateTime.of(2026, 1, 6, 9, 30));
+
+        @Test
+        @DisplayName("Should tag the enrollment with an ETag derived from its resource version")
+        void shouldReturnETagFromResourceVersion() throws Exception {
+            when(enrollmentService.findVersionById(1L)).thenReturn(Optional.of(resourceVersion));
+            when(enrollmentService.findById(1L)).thenReturn(enrollmentResponse);
+
+            mockMvc.perform(get("/api/v1/enrollments/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.of("enrollment", 1L, resourceVersion)));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 from the resource version without loading the enrollment")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            when(enrollmentService.findVersionById(1L)).thenReturn(Optional.of(resourceVersion));
+
+            mockMvc.perform(get("/api/v1/enrollments/1")
+                    .header("If-None-Match", ETags.of("enrollment", 1L, resourceVersion)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+            verify(enrollmentService, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return the enrollment when only a derived count changed")
+        void shouldReturnBodyWhenDerivedCountChanged() throws Exception {
+            ResourceVersion enrolled = ResourceVersion.of(6L, 4, LocalDateTime.of(2026, 1, 5, 10, 0),
+                LocalDateTime.of(2026, 1, 6, 9, 30));
+            when(enrollmentService.findVersionById(1L)).thenReturn(Optional.of(enrolled));
+            when(enrollmentService.findById(1L)).thenReturn(enrollmentResponse);
+
+            mockMvc.perform(get("/api/v1/enrollments/1")
+                    .header("If-None-Match", ETags.of("enrollment", 1L, resourceVersion)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.of("enrollment", 1L, enrolled)))
+                .andExpect(jsonPath("$.data.id").value(1L));
+        }
     }
 
     @Nested
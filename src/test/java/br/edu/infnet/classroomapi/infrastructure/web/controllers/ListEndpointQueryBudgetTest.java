@@ -0,0 +1,287 @@
+package br.edu.infnet.classroomapi.infrastructure.web.controllers;
+
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.QueryBudget;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.QueryCountTest;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.QueryCounter;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TestDataSeeder;
+import br.edu.infnet.classroomapi.infrastructure.persistence.entities.StudentEntity;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.StudentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@QueryCountTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("List Endpoint Query Budget Tests")
+class ListEndpointQueryBudgetTest {
+
+    private static final int STUDENTS = 500;
+    private static final int SUBJECTS = 5;
+    private static final int ENROLLMENTS_PER_SUBJECT = 25;
+    private static final long MISSING_ID = 999_999L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfessorJpaRepository professorRepository;
+
+    @Autowired
+    private StudentJpaRepository studentRepository;
+
+    @Autowired
+    private SubjectJpaRepository subjectRepository;
+
+    @Autowired
+    private EnrollmentJpaRepository enrollmentRepository;
+
+    private TestDataSeeder seeder;
+    private TestDataSeeder.SeededData data;
+
+    @BeforeAll
+    void seed() {
+        seeder = new TestDataSeeder(professorRepository, studentRepository, subjectRepository, enrollmentRepository);
+        seeder.clear();
+        data = seeder.seed(STUDENTS, SUBJECTS, STUDENTS, ENROLLMENTS_PER_SUBJECT);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        seeder.clear();
+    }
+
+    private Long largeSubjectId() {
+        return data.subjects().get(0).getId();
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private RequestPostProcessor professor() {
+        return jwt().jwt(jwt -> jwt.claim("professorId", data.professor().getId()));
+    }
+
+    @Nested
+    @DisplayName("Student Endpoints")
+    class StudentEndpoints {
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("GET /students should run a single statement")
+        void findAll() throws Exception {
+            mockMvc.perform(get("/api/v1/students"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("GET /students/summary should run a single statement")
+        void findAllSummary() throws Exception {
+            mockMvc.perform(get("/api/v1/students/summary"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("GET /students/search should run a single statement")
+        void searchByName() throws Exception {
+            mockMvc.perform(get("/api/v1/students/search").param("name", "Seed"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("GET /students/subject/{id} should run a single statement")
+        void findBySubject() throws Exception {
+            mockMvc.perform(get("/api/v1/students/subject/{id}", largeSubjectId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("GET /students?ids= should chunk the IN list and keep request order")
+        void findByIds() throws Exception {
+            List<Long> ids = new ArrayList<>(data.students().stream().map(StudentEntity::getId).toList());
+            Collections.reverse(ids);
+            ids.add(MISSING_ID);
+
+            mockMvc.perform(get("/api/v1/students").param("ids", join(ids)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items.length()").value(STUDENTS))
+                    .andExpect(jsonPath("$.data.items[0].id").value(ids.get(0)))
+                    .andExpect(jsonPath("$.data.missingIds[0]").value(MISSING_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("Subject Endpoints")
+    class SubjectEndpoints {
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("GET /subjects should fetch professors and enrollment counts in bulk")
+        void findAll() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("GET /subjects/summary should run a single statement")
+        void findAllSummary() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects/summary"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /subjects/my-subjects should fetch enrollment counts in bulk after its version lookup")
+        void findMySubjects() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects/my-subjects").with(professor()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS - 1));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("GET /subjects/professor/{id} should fetch enrollment counts in bulk")
+        void findByProfessor() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects/professor/{id}", data.professor().getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS - 1));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("GET /subjects/search should fetch enrollment counts in bulk")
+        void searchByName() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects/search").param("name", "Seed"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("GET /subjects?ids= should fetch professors and enrollment counts in bulk")
+        void findByIds() throws Exception {
+            List<Long> ids = List.of(data.subjects().get(2).getId(), MISSING_ID, data.subjects().get(0).getId());
+
+            mockMvc.perform(get("/api/v1/subjects").param("ids", join(ids)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items.length()").value(2))
+                    .andExpect(jsonPath("$.data.items[0].id").value(ids.get(0)))
+                    .andExpect(jsonPath("$.data.items[1].id").value(ids.get(2)))
+                    .andExpect(jsonPath("$.data.missingIds[0]").value(MISSING_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("Enrollment Endpoints")
+    class EnrollmentEndpoints {
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /enrollments should not load associations per row")
+        void findAll() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS + (SUBJECTS - 1) * ENROLLMENTS_PER_SUBJECT));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /enrollments/student/{id} should not load associations per row")
+        void findByStudent() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/student/{id}", data.students().get(0).getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS));
+        }
+
+        @Test
+        @DisplayName("GET /enrollments/subject/{id} with 500 rows should run at most 3 statements")
+        void findBySubject(QueryCounter queryCounter) throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/subject/{id}", largeSubjectId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS));
+
+            queryCounter.assertAtMost(3);
+            assertEquals(STUDENTS * 2 + 2, queryCounter.getLoadedEntities());
+        }
+
+        @Test
+        @DisplayName("GET /enrollments/subject/{id}?view=normalized should include each subject once")
+        void findBySubjectNormalized(QueryCounter queryCounter) throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/subject/{id}", largeSubjectId()).param("view", "normalized"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.enrollments.length()").value(STUDENTS))
+                    .andExpect(jsonPath("$.data.included.students.length()").value(STUDENTS))
+                    .andExpect(jsonPath("$.data.included.subjects.length()").value(1))
+                    .andExpect(jsonPath("$.data.included.subjects[0].enrolledStudentsCount").value(STUDENTS));
+
+            queryCounter.assertAtMost(3);
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /enrollments/my-subjects should not query per subject")
+        void findMySubjects() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/my-subjects").with(professor()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS + (SUBJECTS - 2) * ENROLLMENTS_PER_SUBJECT));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /enrollments/status/{status} should not load associations per row")
+        void findByStatus() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/status/{status}", "SUSPENDED"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS / 10 + (SUBJECTS - 1) * 3));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /enrollments/subject/{id}/approved should not load associations per row")
+        void findApproved() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/subject/{id}/approved", largeSubjectId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(167));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("GET /enrollments/subject/{id}/reproved should not load associations per row")
+        void findReproved() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/subject/{id}/reproved", largeSubjectId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(166));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package br.edu.infnet.classroomapi.infrastructure.web.controllers;
+
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.QueryBudget;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.QueryCountTest;
+import br.edu.infnet.classroomapi.infrastructure.monitoring.sql.QueryCounter;
+import br.edu.infnet.classroomapi.infrastructure.persistence.TestDataSeeder;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.EnrollmentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.ProfessorJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.StudentJpaRepository;
+import br.edu.infnet.classroomapi.infrastructure.persistence.repositories.SubjectJpaRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@QueryCountTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Sparse Fieldset Tests")
+class SparseFieldsetTest {
+
+    private static final int STUDENTS = 30;
+    private static final int SUBJECTS = 3;
+    private static final int ENROLLMENTS_PER_SUBJECT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfessorJpaRepository professorRepository;
+
+    @Autowired
+    private StudentJpaRepository studentRepository;
+
+    @Autowired
+    private SubjectJpaRepository subjectRepository;
+
+    @Autowired
+    private EnrollmentJpaRepository enrollmentRepository;
+
+    private TestDataSeeder seeder;
+    private TestDataSeeder.SeededData data;
+
+    @BeforeAll
+    void seed() {
+        seeder = new TestDataSeeder(professorRepository, studentRepository, subjectRepository, enrollmentRepository);
+        seeder.clear();
+        data = seeder.seed(STUDENTS, SUBJECTS, STUDENTS, ENROLLMENTS_PER_SUBJECT);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        seeder.clear();
+    }
+
+    @Nested
+    @DisplayName("Enrollment Endpoints")
+    class EnrollmentEndpoints {
+
+        @Test
+        @DisplayName("Should answer the grade-entry selection from one column query after the version lookup without loading entities")
+        void shouldProjectGradeEntryFields(QueryCounter queryCounter) throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/subject/{id}", data.subjects().get(0).getId())
+                            .param("fields", "id,student.name,status,grade"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(STUDENTS))
+                    .andExpect(jsonPath("$.data[0].id").exists())
+                    .andExpect(jsonPath("$.data[0].status").exists())
+                    .andExpect(jsonPath("$.data[0].student.name").value("Seed Student 0"))
+                    .andExpect(jsonPath("$.data[0].student.cpf").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].student.address").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].subject").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].createdAt").doesNotExist())
+                    .andExpect(jsonPath("$.success").value(true));
+
+            queryCounter.assertAtMost(2);
+            assertEquals(0, queryCounter.getLoadedEntities());
+        }
+
+        @Test
+        @DisplayName("Should compute approval and nested professor columns in the projection")
+        void shouldProjectDerivedAndNestedFields(QueryCounter queryCounter) throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments/subject/{id}/approved", data.subjects().get(0).getId())
+                            .param("fields", "id,approved,subject.code,subject.professor.name"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(10))
+                    .andExpect(jsonPath("$.data[0].approved").value(true))
+                    .andExpect(jsonPath("$.data[0].subject.code").value("SEED0"))
+                    .andExpect(jsonPath("$.data[0].subject.professor.name").value("Seed Professor"))
+                    .andExpect(jsonPath("$.data[0].subject.professor.email").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].subject.enrolledStudentsCount").doesNotExist());
+
+            queryCounter.assertAtMost(1);
+            assertEquals(0, queryCounter.getLoadedEntities());
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("Should skip enrollment counts when falling back to the entity path without them")
+        void shouldSkipCountsOnFallback() throws Exception {
+            mockMvc.perform(get("/api/v1/enrollments").param("fields", "id,student"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].student.email").exists())
+                    .andExpect(jsonPath("$.data[0].subject").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("Subject Endpoints")
+    class SubjectEndpoints {
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("Should not count enrollments unless enrolledStudentsCount is requested")
+        void shouldNotCountEnrollmentsUnlessRequested() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects").param("fields", "id,name"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(SUBJECTS))
+                    .andExpect(jsonPath("$.data[0].name").exists())
+                    .andExpect(jsonPath("$.data[0].code").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].enrolledStudentsCount").doesNotExist());
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("Should keep the full response when no fields are requested")
+        void shouldKeepFullResponseByDefault() throws Exception {
+            mockMvc.perform(get("/api/v1/subjects"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].code").exists())
+                    .andExpect(jsonPath("$.data[0].enrolledStudentsCount").exists());
+        }
+    }
+}
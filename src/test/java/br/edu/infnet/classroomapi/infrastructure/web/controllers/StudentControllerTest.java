@@ -6,6 +6,7 @@ import br.edu.infnet.classroomapi.application.dto.response.AddressResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.StudentResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.StudentSummaryDTO;
 import br.edu.infnet.classroomapi.application.services.StudentApplicationService;
+import br.edu.infnet.classroomapi.infrastructure.web.etag.ETags;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,10 +24,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
 @DisplayName("StudentController Tests")
 class StudentControllerTest {
 
@@ -218,6 +224,48 @@ class StudentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Conditional Get Tests")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Should tag the student with an ETag derived from updatedAt")
+        void shouldReturnETagForStudent() throws Exception {
+            when(studentService.findById(1L)).thenReturn(studentResponse);
+
+            mockMvc.perform(get("/api/v1/students/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.of("student", 1L, studentResponse.getUpdatedAt())));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 from updatedAt without loading the student")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            LocalDateTime updatedAt = studentResponse.getUpdatedAt();
+            when(studentService.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+            mockMvc.perform(get("/api/v1/students/1")
+                    .header("If-None-Match", ETags.of("student", 1L, updatedAt)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+            verify(studentService, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return the student when the ETag is stale")
+        void shouldReturnStudentWhenETagIsStale() throws Exception {
+            LocalDateTime updatedAt = studentResponse.getUpdatedAt();
+            when(studentService.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+            when(studentService.findById(1L)).thenReturn(studentResponse);
+
+            mockMvc.perform(get("/api/v1/students/1")
+                    .header("If-None-Match", ETags.of("student", 1L, updatedAt.minusSeconds(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(1L));
+        }
+    }
+
     @Nested
     @DisplayName("Update Student Tests")
     class UpdateStudentTests {
@@ -1,11 +1,14 @@
 package br.edu.infnet.classroomapi.infrastructure.web.controllers;
 
+import br.edu.infnet.classroomapi.application.changes.ChangeVersion;
 import br.edu.infnet.classroomapi.application.dto.request.CreateSubjectRequestDTO;
 import br.edu.infnet.classroomapi.application.dto.response.ProfessorResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.SubjectResponseDTO;
 import br.edu.infnet.classroomapi.application.dto.response.SubjectSummaryDTO;
 import br.edu.infnet.classroomapi.application.services.SubjectApplicationService;
 import br.edu.infnet.classroomapi.domain.enums.UserRole;
+import br.edu.infnet.classroomapi.domain.repositories.ResourceVersion;
+import br.edu.infnet.classroomapi.infrastructure.web.etag.ETags;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,10 +26,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
 @DisplayName("SubjectController Tests")
 class SubjectControllerTest {
 
@@ -49,6 +58,8 @@ class SubjectControllerTest {
     private SubjectResponseDTO subjectResponse;
     private SubjectSummaryDTO subjectSummary;
     private ProfessorResponseDTO professorResponse;
+    private final ChangeVersion version =
+        new ChangeVersion("professor-1", new ResourceVersion(LocalDateTime.of(2026, 1, 5, 10, 0), 3L));
 
     @BeforeEach
     void setUp() {
@@ -174,15 +185,32 @@ class SubjectControllerTest {
         @DisplayName("Should get current professor subjects successfully")
         void shouldGetCurrentProfessorSubjectsSuccessfully() throws Exception {
             List<SubjectResponseDTO> subjects = Arrays.asList(subjectResponse);
+            when(subjectService.findCurrentProfessorVersion()).thenReturn(version);
             when(subjectService.findByCurrentProfessor()).thenReturn(subjects);
 
             mockMvc.perform(get("/api/v1/subjects/my-subjects"))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data[0].name").value("Java Programming"));
         }
 
+        @Test
+        @DisplayName("Should answer 304 for unchanged current professor subjects without listing them")
+        void shouldReturnNotModifiedForUnchangedMySubjects() throws Exception {
+            when(subjectService.findCurrentProfessorVersion()).thenReturn(version);
+
+            String etag = mockMvc.perform(get("/api/v1/subjects/my-subjects"))
+                .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/v1/subjects/my-subjects").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+            verify(subjectService, times(1)).findByCurrentProfessor();
+        }
+
         @Test
         @DisplayName("Should get subjects by professor successfully")
         void shouldGetSubjectsByProfessorSuccessfully() throws Exception {
@@ -210,6 +238,53 @@ class SubjectControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Conditional Get Tests")
+    class ConditionalGetTests {
+
+        private final ResourceVersion resourceVersion =
+            ResourceVersion.of(5L, 3, LocalDateTime.of(2026, 1, 5, 10, 0), LocalDateTime.of(2026, 1, 6, 9, 30));
+
+        @Test
+        @DisplayName("Should tag the subject with an ETag derived from its resource version")
+        void shouldReturnETagFromResourceVersion() throws Exception {
+            when(subjectService.findVersionById(1L)).thenReturn(Optional.of(resourceVersion));
+            when(subjectService.findById(1L)).thenReturn(subjectResponse);
+
+            mockMvc.perform(get("/api/v1/subjects/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.of("subject", 1L, resourceVersion)));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 from the resource version without loading the subject")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            when(subjectService.findVersionById(1L)).thenReturn(Optional.of(resourceVersion));
+
+            mockMvc.perform(get("/api/v1/subjects/1")
+                    .header("If-None-Match", ETags.of("subject", 1L, resourceVersion)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+            verify(subjectService, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return the subject when only a derived count changed")
+        void shouldReturnBodyWhenDerivedCountChanged() throws Exception {
+            ResourceVersion enrolled = ResourceVersion.of(6L, 4, LocalDateTime.of(2026, 1, 5, 10, 0),
+                LocalDateTime.of(2026, 1, 6, 9, 30));
+            when(subjectService.findVersionById(1L)).thenReturn(Optional.of(enrolled));
+            when(subjectService.findById(1L)).thenReturn(subjectResponse);
+
+            mockMvc.perform(get("/api/v1/subjects/1")
+                    .header("If-None-Match", ETags.of("subject", 1L, resourceVersion)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.of("subject", 1L, enrolled)))
+                .andExpect(jsonPath("$.data.id").value(1L));
+        }
+    }
+
     @Nested
     @DisplayName("Update Subject Tests")
     class UpdateSubjectTests {
@@ -0,0 +1,226 @@
+package br.edu.infnet.classroomapi.infrastructure.web.idempotency;
+
+import br.edu.infnet.classroomapi.infrastructure.web.config.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private MeterRegistry meterRegistry;
+    private InMemoryIdempotencyStore store;
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setTimeToLive(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        store = new InMemoryIdempotencyStore(100);
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper(), meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        executions = new AtomicInteger();
+    }
+
+    private MockHttpServletRequest post(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/enrollments");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        return request;
+    }
+
+    private MockFilterChain creating(int status) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                int id = executions.incrementAndGet();
+                String received = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                resp.setStatus(status);
+                resp.setContentType("application/json");
+                resp.setHeader("Location", "/api/v1/enrollments/" + id);
+                resp.getWriter().write("{\"id\":" + id + ",\"received\":" + received + "}");
+            }
+        });
+    }
+
+    @Nested
+    @DisplayName("Replay Tests")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Should run the first request and replay it for a retry with the same key")
+        void shouldReplayRetryWithSameKey() throws Exception {
+            MockHttpServletResponse first = new MockHttpServletResponse();
+            MockHttpServletResponse retry = new MockHttpServletResponse();
+
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), first, creating(201));
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), retry, creating(201));
+
+            assertEquals(1, executions.get());
+            assertEquals(201, first.getStatus());
+            assertEquals("{\"id\":1,\"received\":{\"studentId\":1}}", first.getContentAsString());
+            assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals(201, retry.getStatus());
+            assertEquals(first.getContentAsString(), retry.getContentAsString());
+            assertEquals("/api/v1/enrollments/1", retry.getHeader("Location"));
+            assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals(1.0, meterRegistry.get(IdempotencyFilter.REQUESTS_METRIC).tag("result", "replayed").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should reject a key reused for a different body with 422")
+        void shouldRejectKeyReusedForDifferentBody() throws Exception {
+            MockHttpServletResponse reused = new MockHttpServletResponse();
+
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), new MockHttpServletResponse(), creating(201));
+            filter.doFilter(post("key-1", "{\"studentId\":2}"), reused, creating(201));
+
+            assertEquals(1, executions.get());
+            assertEquals(422, reused.getStatus());
+            assertTrue(reused.getContentAsString().contains("IDEMPOTENCY_KEY_REUSED"));
+        }
+
+        @Test
+        @DisplayName("Should reject a retry with 409 while the first request is still running")
+        void shouldRejectRetryWhileInFlight() throws Exception {
+            MockHttpServletResponse concurrent = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp)
+                        throws ServletException, IOException {
+                    filter.doFilter(post("key-1", "{\"studentId\":1}"), concurrent, creating(201));
+                }
+            });
+
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), new MockHttpServletResponse(), chain);
+
+            assertEquals(0, executions.get());
+            assertEquals(409, concurrent.getStatus());
+            assertEquals("1", concurrent.getHeader("Retry-After"));
+        }
+
+        @Test
+        @DisplayName("Should not store server errors so the client can retry")
+        void shouldNotStoreServerErrors() throws Exception {
+            MockHttpServletResponse retry = new MockHttpServletResponse();
+
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), new MockHttpServletResponse(), creating(500));
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), retry, creating(201));
+
+            assertEquals(2, executions.get());
+            assertEquals(201, retry.getStatus());
+            assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        }
+
+        @Test
+        @DisplayName("Should scope keys by caller")
+        void shouldScopeKeysByCaller() throws Exception {
+            store.begin("someone-else:key-1", "other", NOW, NOW.plusSeconds(60));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(post("key-1", "{\"studentId\":1}"), response, creating(201));
+
+            assertEquals(1, executions.get());
+            assertEquals(201, response.getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should leave requests without the header untouched")
+        void shouldIgnoreRequestsWithoutKey() throws Exception {
+            filter.doFilter(post(null, "{}"), new MockHttpServletResponse(), creating(201));
+            filter.doFilter(post(null, "{}"), new MockHttpServletResponse(), creating(201));
+
+            assertEquals(2, executions.get());
+            assertEquals(0, store.size());
+        }
+
+        @Test
+        @DisplayName("Should reject a blank key with 400")
+        void shouldRejectBlankKey() throws Exception {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(post(" ", "{}"), response, creating(201));
+
+            assertEquals(0, executions.get());
+            assertEquals(400, response.getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("Store Tests")
+    class StoreTests {
+
+        @Test
+        @DisplayName("Should evict the oldest completed records past the bound but keep in-flight ones")
+        void shouldEvictOldestCompletedRecords() {
+            InMemoryIdempotencyStore bounded = new InMemoryIdempotencyStore(2);
+            StoredResponse stored = new StoredResponse(201, Map.of(), new byte[0]);
+            bounded.begin("in-flight", "fp", NOW, NOW.plusSeconds(60));
+            bounded.begin("done", "fp", NOW, NOW.plusSeconds(60));
+            bounded.complete("done", stored, NOW.plusSeconds(60));
+
+            bounded.begin("new", "fp", NOW, NOW.plusSeconds(60));
+
+            assertEquals(2, bounded.size());
+            assertTrue(bounded.begin("in-flight", "fp", NOW, NOW.plusSeconds(60)).isPresent());
+            assertTrue(bounded.begin("done", "fp", NOW, NOW.plusSeconds(60)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should queue a key once however often it is re-claimed")
+        void shouldQueueKeyOnce() {
+            store.begin("key", "fp", NOW, NOW.plusSeconds(60));
+            store.release("key");
+            store.begin("key", "fp", NOW, NOW.plusSeconds(60));
+            store.complete("key", new StoredResponse(201, Map.of(), new byte[0]), NOW.minusSeconds(1));
+            store.begin("key", "fp", NOW, NOW.plusSeconds(60));
+
+            assertEquals(1, store.size());
+            assertEquals(1, store.queuedKeys());
+        }
+
+        @Test
+        @DisplayName("Should drop expired records on sweep")
+        void shouldDropExpiredRecords() {
+            store.begin("old", "fp", NOW, NOW.minusSeconds(1));
+
+            filter.sweepExpired();
+
+            assertEquals(0, store.size());
+        }
+    }
+}